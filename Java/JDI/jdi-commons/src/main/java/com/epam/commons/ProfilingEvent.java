@@ -0,0 +1,209 @@
+package com.epam.commons;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Java Flight Recorder event of JDI (action, element lookup, wait, getting driver)<br>
+ * Events are defined at runtime with jdk.jfr.EventFactory, so code works on Java 8:
+ * if JFR API is not available, no recording is running or event is not enabled in recording start() returns
+ * no-op event without creating JFR event. Running recordings are tracked by FlightRecorderListener<br>
+ * Fields: name, element, locator, attempts, outcome (thread and duration are recorded by JFR itself)
+ */
+public class ProfilingEvent {
+    public enum Kind {
+        ACTION("Action"), LOOKUP("Element Lookup"), WAIT("Wait"), DRIVER("Get Driver");
+
+        private final String label;
+        private volatile Object factory;
+        private volatile boolean defined;
+
+        Kind(String label) {
+            this.label = label;
+        }
+
+        private Object factory() {
+            if (!defined)
+                synchronized (this) {
+                    if (!defined) {
+                        factory = JFR.available ? JFR.define("com.epam.jdi." + label.replace(" ", ""), "JDI " + label) : null;
+                        defined = true;
+                    }
+                }
+            return factory;
+        }
+    }
+
+    private static final ProfilingEvent NONE = new ProfilingEvent(null);
+    private static final int NAME = 0, ELEMENT = 1, LOCATOR = 2, ATTEMPTS = 3, OUTCOME = 4;
+    private final Object event;
+
+    private ProfilingEvent(Object event) {
+        this.event = event;
+    }
+
+    /**
+     * Starts event of kind; call end() when operation is finished
+     */
+    public static ProfilingEvent start(Kind kind, String name, Object element, Object locator) {
+        if (!JFR.recording)
+            return NONE;
+        Object factory = kind.factory();
+        if (factory == null)
+            return NONE;
+        try {
+            Object event = JFR.newEvent.invoke(factory);
+            if (!(boolean) JFR.isEnabled.invoke(event))
+                return NONE;
+            JFR.set.invoke(event, NAME, name);
+            JFR.set.invoke(event, ELEMENT, element == null ? null : element.toString());
+            JFR.set.invoke(event, LOCATOR, locator == null ? null : locator.toString());
+            JFR.begin.invoke(event);
+            return new ProfilingEvent(event);
+        } catch (Throwable ex) {
+            return NONE;
+        }
+    }
+
+    public void end(int attempts, String outcome) {
+        if (event == null) return;
+        try {
+            JFR.set.invoke(event, ATTEMPTS, attempts);
+            JFR.set.invoke(event, OUTCOME, outcome);
+            JFR.end.invoke(event);
+            if ((boolean) JFR.shouldCommit.invoke(event))
+                JFR.commit.invoke(event);
+        } catch (Throwable ignore) { }
+    }
+
+    private static final class JFR {
+        static final MethodHandle create = handle("jdk.jfr.EventFactory", "create", List.class, List.class);
+        static final MethodHandle newEvent = handle("jdk.jfr.EventFactory", "newEvent");
+        static final MethodHandle isEnabled = handle("jdk.jfr.Event", "isEnabled");
+        static final MethodHandle set = handle("jdk.jfr.Event", "set", int.class, Object.class);
+        static final MethodHandle begin = handle("jdk.jfr.Event", "begin");
+        static final MethodHandle end = handle("jdk.jfr.Event", "end");
+        static final MethodHandle shouldCommit = handle("jdk.jfr.Event", "shouldCommit");
+        static final MethodHandle commit = handle("jdk.jfr.Event", "commit");
+        static final MethodHandle getRecorder = handle("jdk.jfr.FlightRecorder", "getFlightRecorder");
+        static final MethodHandle getRecordings = handle("jdk.jfr.FlightRecorder", "getRecordings");
+        static final MethodHandle getState = handle("jdk.jfr.Recording", "getState");
+        static final Constructor<?> annotation = constructor("jdk.jfr.AnnotationElement", Class.class, Object.class);
+        static final Constructor<?> value = constructor("jdk.jfr.ValueDescriptor", Class.class, String.class);
+        static final Class<? extends Annotation> nameClass = annotationType("jdk.jfr.Name");
+        static final Class<? extends Annotation> labelClass = annotationType("jdk.jfr.Label");
+        static final Class<? extends Annotation> categoryClass = annotationType("jdk.jfr.Category");
+        static final boolean available = create != null && newEvent != null && isEnabled != null && set != null
+            && begin != null && end != null && shouldCommit != null && commit != null && annotation != null
+            && value != null && nameClass != null && labelClass != null && categoryClass != null;
+        static volatile boolean recording;
+
+        static {
+            if (available && getRecorder != null && getRecordings != null && getState != null)
+                listenRecordings();
+        }
+
+        private static MethodHandle handle(String className, String method, Class<?>... parameters) {
+            try {
+                return MethodHandles.publicLookup().unreflect(Class.forName(className).getMethod(method, parameters));
+            } catch (Throwable ex) {
+                return null;
+            }
+        }
+
+        private static Constructor<?> constructor(String className, Class<?>... parameters) {
+            try {
+                return Class.forName(className).getConstructor(parameters);
+            } catch (Throwable ex) {
+                return null;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Class<? extends Annotation> annotationType(String name) {
+            try {
+                return (Class<? extends Annotation>) Class.forName(name);
+            } catch (Throwable ex) {
+                return null;
+            }
+        }
+
+        /**
+         * FlightRecorder.addListener() doesn't start JFR: listener is called when recorder is initialized
+         * and on every change of recording state
+         */
+        private static void listenRecordings() {
+            try {
+                Class<?> listenerClass = Class.forName("jdk.jfr.FlightRecorderListener");
+                Object listener = Proxy.newProxyInstance(listenerClass.getClassLoader(), new Class<?>[]{listenerClass},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "recorderInitialized":
+                            case "recordingStateChanged":
+                                recording = anyRunning();
+                                return null;
+                            case "equals": return proxy == args[0];
+                            case "hashCode": return System.identityHashCode(proxy);
+                            case "toString": return "JDI recordings listener";
+                            default: return null;
+                        }
+                    });
+                Class.forName("jdk.jfr.FlightRecorder").getMethod("addListener", listenerClass)
+                    .invoke(null, listener);
+            } catch (Throwable ex) {
+                recording = false;
+            }
+        }
+
+        private static boolean anyRunning() {
+            try {
+                for (Object record : (List<?>) getRecordings.invoke(getRecorder.invoke()))
+                    if ("RUNNING".equals(getState.invoke(record).toString()))
+                        return true;
+            } catch (Throwable ignore) { }
+            return false;
+        }
+
+        static Object define(String name, String label) {
+            try {
+                List<Object> annotations = asList(
+                    annotation.newInstance(nameClass, name),
+                    annotation.newInstance(labelClass, label),
+                    annotation.newInstance(categoryClass, new String[]{"JDI"}));
+                List<Object> fields = new ArrayList<>(asList(
+                    value.newInstance(String.class, "name"),
+                    value.newInstance(String.class, "element"),
+                    value.newInstance(String.class, "locator"),
+                    value.newInstance(int.class, "attempts"),
+                    value.newInstance(String.class, "outcome")));
+                return create.invoke(annotations, fields);
+            } catch (Throwable ex) {
+                return null;
+            }
+        }
+    }
+}
@@ -18,22 +18,41 @@ package com.epam.commons;
  */
 
 import com.epam.commons.linqinterfaces.JAction;
+import com.epam.commons.linqinterfaces.JActionT;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static com.epam.commons.ProfilingEvent.Kind.WAIT;
 import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
 
 /**
  * Created by 12345 on 28.09.2014.
  */
 public class Timer {
-    private Long start = currentTimeMillis();
+    /**
+     * Used by Timers created without explicit retry timeout
+     */
+    public static WaitStrategy defaultWaitStrategy = WaitStrategy.backoff(10, 2, 100, 0.2);
+    /**
+     * Gets time in nanoseconds spent in every pause between retries or sleep (e.g. for statistic)
+     */
+    public static JActionT<Long> sleepListener;
+
+    private long start = nanoTime();
     private long timeoutInMSec = 5 * 1000L;
-    private long retryTimeoutInMSec = 100;
+    private WaitStrategy waitStrategy = defaultWaitStrategy;
+    private static final Map<Object, Set<Timer>> waiting = new ConcurrentHashMap<>();
+    private Object channel;
+    private final Object signalLock = new Object();
+    private boolean signaled;
 
     public Timer() {
     }
@@ -41,7 +60,7 @@ public class Timer {
     public Timer(long timeoutInMSec, long retryTimeoutInMSec) {
         this();
         this.timeoutInMSec = timeoutInMSec;
-        this.retryTimeoutInMSec = retryTimeoutInMSec;
+        setRetryTimeout(retryTimeoutInMSec);
     }
 
     public Timer(long timeoutInMSec) {
@@ -49,7 +68,7 @@ public class Timer {
         this.timeoutInMSec = timeoutInMSec;
     }
 
-    public void restart() { start = currentTimeMillis(); }
+    public void restart() { start = nanoTime(); }
 
     public static String nowTime() {
         return nowTime("HH:mm:ss.SSS");
@@ -72,10 +91,18 @@ public class Timer {
     }
 
     public static void sleep(long mSec) {
+        long sleepStart = nanoTime();
         try {
             Thread.sleep(mSec);
         } catch (InterruptedException ignore) {
         }
+        slept(sleepStart);
+    }
+
+    private static void slept(long sleepStart) {
+        JActionT<Long> listener = sleepListener;
+        if (listener != null)
+            listener.invoke(nanoTime() - sleepStart);
     }
 
     public static <T> T getByCondition(Supplier<T> getFunc, Function<T, Boolean> conditionFunc) {
@@ -103,13 +130,72 @@ public class Timer {
     }
 
     public Timer setRetryTimeout(long retryTimeoutInMSec) {
-        this.retryTimeoutInMSec = retryTimeoutInMSec;
+        return setWaitStrategy(WaitStrategy.fixed(retryTimeoutInMSec));
+    }
+
+    public Timer setWaitStrategy(WaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+        return this;
+    }
+
+    /**
+     * While this Timer waits, signal(channel) makes it check condition right away instead of
+     * sleeping till next retry (e.g. page change of the driver it waits on)
+     */
+    public Timer wakeOn(Object channel) {
+        this.channel = channel;
         return this;
     }
 
+    /**
+     * Wakes up this Timer to check condition right now instead of waiting till next retry
+     */
+    public void signal() {
+        synchronized (signalLock) {
+            signaled = true;
+            signalLock.notifyAll();
+        }
+    }
+
+    /**
+     * Wakes up all Timers that wait on channel (see wakeOn()); Timers not waiting at the moment are not affected
+     */
+    public static void signal(Object channel) {
+        Set<Timer> timers = channel == null ? null : waiting.get(channel);
+        if (timers != null)
+            for (Timer timer : timers)
+                timer.signal();
+    }
+
+    private void startWaiting() {
+        if (channel != null)
+            waiting.computeIfAbsent(channel, c -> ConcurrentHashMap.newKeySet()).add(this);
+    }
+
+    private void stopWaiting() {
+        if (channel != null)
+            waiting.get(channel).remove(this);
+    }
+
+    private void pause(int attempt) {
+        long delay = Math.min(waitStrategy.nextDelayInMSec(attempt), Math.max(1, timeoutInMSec - timePassedInMSec()));
+        if (channel == null) {
+            sleep(delay);
+            return;
+        }
+        long sleepStart = nanoTime();
+        synchronized (signalLock) {
+            try {
+                if (!signaled)
+                    signalLock.wait(delay);
+            } catch (InterruptedException ignore) { }
+            signaled = false;
+        }
+        slept(sleepStart);
+    }
+
     public Long timePassedInMSec() {
-        Long now = currentTimeMillis();
-        return now - start;
+        return (nanoTime() - start) / 1_000_000;
     }
 
     public boolean timeoutPassed() {
@@ -117,13 +203,24 @@ public class Timer {
     }
 
     public boolean wait(BooleanSupplier waitCase) {
+        ProfilingEvent event = ProfilingEvent.start(WAIT, "wait", null, null);
         Throwable exception = null;
-        while (!timeoutPassed())
-            try {
-                if (waitCase.getAsBoolean())
-                    return true;
-                sleep(retryTimeoutInMSec);
-            } catch (Exception | Error ex) { exception = ex; }
+        int attempt = 0;
+        startWaiting();
+        try {
+            while (!timeoutPassed()) {
+                try {
+                    if (waitCase.getAsBoolean()) {
+                        event.end(attempt + 1, "done");
+                        return true;
+                    }
+                } catch (Exception | Error ex) { exception = ex; }
+                pause(++attempt);
+            }
+        } finally {
+            stopWaiting();
+        }
+        event.end(attempt, exception != null ? "failed" : "timeout");
         if (exception != null)
             throw new RuntimeException(exception);
         return false;
@@ -134,15 +231,25 @@ public class Timer {
     }
 
     public <T> T getResultByCondition(Supplier<T> getFunc, Function<T, Boolean> conditionFunc) {
+        ProfilingEvent event = ProfilingEvent.start(WAIT, "getResultByCondition", null, null);
         Throwable exception = null;
-         do {
-            try {
-                T result = getFunc.get();
-                if (result != null && conditionFunc.apply(result))
-                    return result;
-            } catch (Exception | Error ex) { exception = ex; }
-            sleep(retryTimeoutInMSec);
-        } while (!timeoutPassed());
+        int attempt = 0;
+        startWaiting();
+        try {
+            do {
+                try {
+                    T result = getFunc.get();
+                    if (result != null && conditionFunc.apply(result)) {
+                        event.end(attempt + 1, "done");
+                        return result;
+                    }
+                } catch (Exception | Error ex) { exception = ex; }
+                pause(++attempt);
+            } while (!timeoutPassed());
+        } finally {
+            stopWaiting();
+        }
+        event.end(attempt, exception != null ? "failed" : "timeout");
         if (exception != null)
             throw new RuntimeException(exception);
         return null;
@@ -0,0 +1,67 @@
+package com.epam.commons;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Delay before next attempt of Timer wait<br>
+ * attempt starts from 1 (delay after the first failed attempt)
+ */
+@FunctionalInterface
+public interface WaitStrategy {
+    long nextDelayInMSec(int attempt);
+
+    static WaitStrategy fixed(long delayInMSec) {
+        return attempt -> delayInMSec;
+    }
+
+    /**
+     * Delay grows from initial in factor times on each attempt up to max, randomized by +-jitter part (e.g. 0.2)
+     */
+    static WaitStrategy backoff(long initialInMSec, double factor, long maxInMSec, double jitter) {
+        return attempt -> {
+            double delay = Math.min(maxInMSec, initialInMSec * Math.pow(factor, attempt - 1));
+            if (jitter > 0)
+                delay *= 1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+            return Math.max(1, Math.round(delay));
+        };
+    }
+
+    /**
+     * @param strategy fixed delay ("100") or backoff parameters "initial,factor,max,jitter" ("10,2,100,0.2")
+     */
+    static WaitStrategy parse(String strategy) {
+        String[] values = strategy.split(",");
+        if (values.length == 1)
+            return fixed(Long.parseLong(values[0].trim()));
+        if (values.length != 4)
+            throw new IllegalArgumentException("Wait strategy should be 'delay' or 'initial,factor,max,jitter': "
+                + strategy);
+        return backoff(Long.parseLong(values[0].trim()), Double.parseDouble(values[1].trim()),
+            Long.parseLong(values[2].trim()), Double.parseDouble(values[3].trim()));
+    }
+
+    /**
+     * Few quick retries for waits that usually resolve in tens of milliseconds then backoff up to 100 ms
+     */
+    static WaitStrategy fastFirst() {
+        WaitStrategy backoff = backoff(20, 2, 100, 0.2);
+        return attempt -> attempt <= 3 ? 10 : backoff.nextDelayInMSec(attempt - 3);
+    }
+}
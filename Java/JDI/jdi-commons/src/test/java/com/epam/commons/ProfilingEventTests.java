@@ -0,0 +1,71 @@
+package com.epam.commons;
+
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.epam.commons.ProfilingEvent.Kind.ACTION;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * JFR API is used with reflection to keep sources on Java 8, test is skipped where JFR is not available
+ */
+public class ProfilingEventTests {
+    private static Class<?> jfrClass(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException ex) {
+            throw new SkipException("Java Flight Recorder API is not available");
+        }
+    }
+
+    @Test
+    public void noEventWithoutRecording() {
+        jfrClass("jdk.jfr.Recording");
+        assertSame(ProfilingEvent.start(ACTION, "Click", "button", "css"),
+            ProfilingEvent.start(ACTION, "Click", "button", "css"));
+    }
+
+    @Test
+    public void eventIsRecorded() throws Exception {
+        Class<?> recordingClass = jfrClass("jdk.jfr.Recording");
+        Object recording = recordingClass.newInstance();
+        recordingClass.getMethod("enable", String.class).invoke(recording, "com.epam.jdi.Action");
+        Path file = Files.createTempFile("jdi", ".jfr");
+        try {
+            recordingClass.getMethod("start").invoke(recording);
+            ProfilingEvent event = ProfilingEvent.start(ACTION, "Click", "button", "css");
+            assertNotSame(event, ProfilingEvent.start(ACTION, "Click", "button", "css"));
+            event.end(2, "done");
+            recordingClass.getMethod("stop").invoke(recording);
+            recordingClass.getMethod("dump", Path.class).invoke(recording, file);
+
+            List<Object> events = new ArrayList<>();
+            for (Object recorded : (List<?>) jfrClass("jdk.jfr.consumer.RecordingFile")
+                    .getMethod("readAllEvents", Path.class).invoke(null, file)) {
+                Object type = recorded.getClass().getMethod("getEventType").invoke(recorded);
+                if ("com.epam.jdi.Action".equals(type.getClass().getMethod("getName").invoke(type)))
+                    events.add(recorded);
+            }
+            assertEquals(events.size(), 1);
+            Method getValue = events.get(0).getClass().getMethod("getValue", String.class);
+            assertEquals(getValue.invoke(events.get(0), "name"), "Click");
+            assertEquals(getValue.invoke(events.get(0), "element"), "button");
+            assertEquals(getValue.invoke(events.get(0), "locator"), "css");
+            assertEquals(getValue.invoke(events.get(0), "attempts"), 2);
+            assertEquals(getValue.invoke(events.get(0), "outcome"), "done");
+        } finally {
+            recordingClass.getMethod("close").invoke(recording);
+            Files.deleteIfExists(file);
+        }
+        assertSame(ProfilingEvent.start(ACTION, "Click", "button", "css"),
+            ProfilingEvent.start(ACTION, "Click", "button", "css"));
+    }
+}
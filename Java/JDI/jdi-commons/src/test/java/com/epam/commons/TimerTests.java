@@ -0,0 +1,53 @@
+package com.epam.commons;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TimerTests {
+    private static void later(Runnable action) {
+        new Thread(() -> {
+            Timer.sleep(200);
+            action.run();
+        }).start();
+    }
+
+    @Test
+    public void signalWakesUpWaitOnChannel() {
+        AtomicBoolean ready = new AtomicBoolean();
+        later(() -> {
+            ready.set(true);
+            Timer.signal("driver");
+        });
+        Timer timer = new Timer(10_000, 5_000).wakeOn("driver");
+        assertTrue(timer.wait(ready::get));
+        assertTrue(timer.timePassedInMSec() < 3_000, "Wait took " + timer.timePassedInMSec() + " ms");
+    }
+
+    @Test
+    public void signalOfOtherChannelDoesNotWakeUp() {
+        AtomicBoolean ready = new AtomicBoolean();
+        later(() -> {
+            ready.set(true);
+            Timer.signal("other");
+        });
+        Timer timer = new Timer(10_000, 2_000).wakeOn("driver");
+        assertTrue(timer.wait(ready::get));
+        assertTrue(timer.timePassedInMSec() >= 1_900, "Wait took " + timer.timePassedInMSec() + " ms");
+    }
+
+    @Test
+    public void signalOfTimerWakesUpGetResult() {
+        AtomicBoolean ready = new AtomicBoolean();
+        Timer timer = new Timer(10_000, 5_000).wakeOn(this);
+        later(() -> {
+            ready.set(true);
+            timer.signal();
+        });
+        assertEquals(timer.getResultByCondition(() -> ready.get() ? "ready" : null, result -> true), "ready");
+        assertTrue(timer.timePassedInMSec() < 3_000, "Wait took " + timer.timePassedInMSec() + " ms");
+    }
+}
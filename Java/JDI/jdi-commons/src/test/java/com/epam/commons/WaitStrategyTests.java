@@ -0,0 +1,69 @@
+package com.epam.commons;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class WaitStrategyTests {
+    @Test
+    public void fixedDelayDoesNotGrow() {
+        WaitStrategy strategy = WaitStrategy.fixed(100);
+        assertEquals(strategy.nextDelayInMSec(1), 100);
+        assertEquals(strategy.nextDelayInMSec(50), 100);
+    }
+
+    @Test
+    public void backoffGrowsUpToMax() {
+        WaitStrategy strategy = WaitStrategy.backoff(10, 2, 100, 0);
+        assertEquals(strategy.nextDelayInMSec(1), 10);
+        assertEquals(strategy.nextDelayInMSec(2), 20);
+        assertEquals(strategy.nextDelayInMSec(4), 80);
+        assertEquals(strategy.nextDelayInMSec(5), 100);
+        assertEquals(strategy.nextDelayInMSec(1000), 100);
+    }
+
+    @Test
+    public void backoffIsAtLeastOneMSec() {
+        assertEquals(WaitStrategy.backoff(0, 2, 100, 0).nextDelayInMSec(3), 1);
+    }
+
+    @Test
+    public void jitterStaysInBounds() {
+        WaitStrategy strategy = WaitStrategy.backoff(100, 1, 100, 0.2);
+        for (int i = 0; i < 1000; i++) {
+            long delay = strategy.nextDelayInMSec(1);
+            assertTrue(delay >= 80 && delay <= 120, "Delay out of jitter bounds: " + delay);
+        }
+    }
+
+    @Test
+    public void fastFirstRetriesQuicklyThenBacksOff() {
+        WaitStrategy strategy = WaitStrategy.fastFirst();
+        for (int attempt = 1; attempt <= 3; attempt++)
+            assertEquals(strategy.nextDelayInMSec(attempt), 10);
+        for (int attempt = 4; attempt < 100; attempt++) {
+            long delay = strategy.nextDelayInMSec(attempt);
+            assertTrue(delay >= 16 && delay <= 120, "Delay out of bounds: " + delay);
+        }
+    }
+
+    @Test
+    public void parseFixedAndBackoff() {
+        assertEquals(WaitStrategy.parse(" 250 ").nextDelayInMSec(7), 250);
+        WaitStrategy backoff = WaitStrategy.parse("10, 3, 50, 0");
+        assertEquals(backoff.nextDelayInMSec(1), 10);
+        assertEquals(backoff.nextDelayInMSec(2), 30);
+        assertEquals(backoff.nextDelayInMSec(3), 50);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void parseRejectsWrongParametersCount() {
+        WaitStrategy.parse("10,2,100");
+    }
+
+    @Test(expectedExceptions = NumberFormatException.class)
+    public void parseRejectsNotNumbers() {
+        WaitStrategy.parse("fast");
+    }
+}
@@ -19,13 +19,15 @@ package com.epam.jdi.uitests.core.interfaces;
 
 
 import com.epam.jdi.uitests.core.interfaces.base.IBaseElement;
-import com.epam.jdi.uitests.core.interfaces.base.IComposite;
-import com.epam.jdi.uitests.core.interfaces.complex.IPage;
 
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import static com.epam.commons.LinqUtils.foreach;
+import static com.epam.commons.LinqUtils.select;
 import static com.epam.commons.ReflectionUtils.*;
 import static com.epam.commons.StringUtils.LINE_BREAK;
 import static com.epam.commons.TryCatchUtil.tryGetResult;
@@ -41,18 +43,32 @@ import static java.util.Arrays.asList;
 public abstract class CascadeInit {
     public Class<?>[] decorators() { return new Class<?>[] {IBaseElement.class, List.class }; }
 
+    private static final Map<Class<?>, Map<Class<?>, List<InitField>>> INIT_PLANS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Map<Class<?>, List<InitField>>> STATIC_INIT_PLANS = new ConcurrentHashMap<>();
+
+    /**
+     * Fields to init and their metadata are resolved once per page object class and reused for every next instance
+     */
+    private List<InitField> getInitPlan(Map<Class<?>, Map<Class<?>, List<InitField>>> plans,
+                                        Class<?> parentType, Supplier<List<Field>> getFields) {
+        return plans.computeIfAbsent(getClass(), initType -> new ConcurrentHashMap<>())
+            .computeIfAbsent(parentType, type -> select(getFields.get(), InitField::new));
+    }
+
     public synchronized void initElements(Object parent, String driverName) {
-        setFieldsForInit(parent, getFields(parent, decorators(), stopTypes()), parent.getClass(), driverName);
+        setFieldsForInit(parent, getInitPlan(INIT_PLANS, parent.getClass(),
+                () -> getFields(parent, decorators(), stopTypes())),
+            parent.getClass(), driverName);
     }
 
     protected abstract Class<?>[] stopTypes();
 
     public synchronized void initStaticPages(Class<?> parentType, String driverName) {
-        setFieldsForInit(null,
-                getFields(asList(parentType.getDeclaredFields()), decorators(), f -> isStatic(f.getModifiers())),
-                parentType, driverName);
+        setFieldsForInit(null, getInitPlan(STATIC_INIT_PLANS, parentType,
+                () -> getFields(asList(parentType.getDeclaredFields()), decorators(), f -> isStatic(f.getModifiers()))),
+            parentType, driverName);
     }
-    private void setFieldsForInit(Object parent, List<Field> fields, Class<?> parentType, String driverName) {
+    private void setFieldsForInit(Object parent, List<InitField> fields, Class<?> parentType, String driverName) {
         foreach(fields, field -> setElement(parent, parentType, field, driverName));
     }
 
@@ -65,18 +81,19 @@ public abstract class CascadeInit {
 
     protected abstract void fillPageFromAnnotation(Field field, IBaseElement instance, Class<?> parentType);
 
-    private void setElement(Object parent, Class<?> parentType, Field field, String driverName) {
+    private void setElement(Object parent, Class<?> parentType, InitField initField, String driverName) {
+        Field field = initField.field;
         try {
-            Class<?> type = field.getType();
-            IBaseElement instance = isInterface(type, IPage.class)
-                    ? getInstancePage(parent, field, type, parentType)
-                    : getInstanceElement(parent, type, parentType, field, driverName);
+            Class<?> type = initField.type;
+            IBaseElement instance = initField.isPage
+                    ? getInstancePage(parent, initField, type, parentType)
+                    : getInstanceElement(parent, type, parentType, initField, driverName);
             instance.setName(field);
             if (parent != null)
                 instance.getAvatar().setDriverName(driverName);
             instance.setTypeName(type.getSimpleName());
-            field.set(parent, instance);
-            if (isInterface(field, IComposite.class))
+            initField.set(parent, instance);
+            if (initField.isComposite)
                 initElements(instance, driverName);
         } catch (Exception ex) {
             throw exception("Error in setElement for field '%s' with parent '%s'", field.getName(),
@@ -84,17 +101,17 @@ public abstract class CascadeInit {
         }
     }
 
-    private IBaseElement getInstancePage(Object parent, Field field, Class<?> type, Class<?> parentType) throws IllegalAccessException, InstantiationException {
-        IBaseElement instance = (IBaseElement) getValueField(field, parent);
+    private IBaseElement getInstancePage(Object parent, InitField field, Class<?> type, Class<?> parentType) throws IllegalAccessException, InstantiationException {
+        IBaseElement instance = (IBaseElement) field.get(parent);
         if (instance == null)
             instance = (IBaseElement) type.newInstance();
-        fillPageFromAnnotation(field, instance, parentType);
+        fillPageFromAnnotation(field.field, instance, parentType);
         return instance;
     }
 
-    private IBaseElement getInstanceElement(Object parent, Class<?> type, Class<?> parentType, Field field, String driverName) {
+    private IBaseElement getInstanceElement(Object parent, Class<?> type, Class<?> parentType, InitField field, String driverName) throws IllegalAccessException {
         IBaseElement instance = createChildFromFieldStatic(parent, parentType, field, type, driverName);
-        instance.setFunction(getFunction(field));
+        instance.setFunction(getFunction(field.field));
         return instance;
     }
 
@@ -107,8 +124,9 @@ public abstract class CascadeInit {
     protected IBaseElement fillFromJDIAnnotation(IBaseElement instance, Field field) {
         return instance;
     }
-    private IBaseElement createChildFromFieldStatic(Object parent, Class<?> parentClass, Field field, Class<?> type, String driverName) {
-        IBaseElement instance = (IBaseElement) getValueField(field, parent);
+    private IBaseElement createChildFromFieldStatic(Object parent, Class<?> parentClass, InitField initField, Class<?> type, String driverName) throws IllegalAccessException {
+        Field field = initField.field;
+        IBaseElement instance = (IBaseElement) initField.get(parent);
         if (instance == null)
             try {
                 instance = getElementInstance(field, driverName, parent);
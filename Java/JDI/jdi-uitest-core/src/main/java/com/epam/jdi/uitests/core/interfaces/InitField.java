@@ -0,0 +1,96 @@
+package com.epam.jdi.uitests.core.interfaces;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+import com.epam.jdi.uitests.core.interfaces.base.IComposite;
+import com.epam.jdi.uitests.core.interfaces.complex.IPage;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+
+import static com.epam.commons.ReflectionUtils.isInterface;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+
+/**
+ * One step of the page object init plan: field to initialize with everything resolved once per class<br>
+ * Field value is got and set with MethodHandles adapted to (Object) signatures, so invokeExact can be used
+ */
+class InitField {
+    final Field field;
+    final Class<?> type;
+    final boolean isPage;
+    final boolean isComposite;
+    private final boolean isStatic;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    InitField(Field field) {
+        this.field = field;
+        this.type = field.getType();
+        this.isPage = isInterface(type, IPage.class);
+        this.isComposite = isInterface(field, IComposite.class);
+        this.isStatic = isStatic(field.getModifiers());
+        field.setAccessible(true);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle get;
+        MethodHandle set;
+        try {
+            get = lookup.unreflectGetter(field).asType(isStatic
+                ? methodType(Object.class)
+                : methodType(Object.class, Object.class));
+        } catch (IllegalAccessException ex) { get = null; }
+        try {
+            set = lookup.unreflectSetter(field).asType(isStatic
+                ? methodType(void.class, Object.class)
+                : methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException ex) { set = null; }
+        this.getter = get;
+        this.setter = set;
+    }
+
+    Object get(Object parent) throws IllegalAccessException {
+        if (getter == null)
+            return field.get(parent);
+        try {
+            return isStatic ? (Object) getter.invokeExact() : (Object) getter.invokeExact(parent);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    void set(Object parent, Object value) throws IllegalAccessException {
+        if (setter == null) {
+            field.set(parent, value);
+            return;
+        }
+        try {
+            if (isStatic)
+                setter.invokeExact(value);
+            else setter.invokeExact(parent, value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -317,6 +317,12 @@ public interface ITable extends IText {
     ITable useCache(boolean value);
     default ITable useCache() { return useCache(true); }
 
+    /**
+     * Read all Table texts with one script call and serve rows, columns and cells from it until clean()
+     */
+    ITable useSnapshot(boolean value);
+    default ITable useSnapshot() { return useSnapshot(true); }
+
     ITable clone();
 
     ITable copy();
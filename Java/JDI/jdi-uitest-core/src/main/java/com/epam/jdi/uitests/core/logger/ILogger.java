@@ -4,10 +4,30 @@ import com.epam.commons.linqinterfaces.JActionEx;
 import com.epam.commons.linqinterfaces.JFuncREx;
 import org.slf4j.Logger;
 
+import java.util.function.Supplier;
+
 /**
  * Created by Roman_Iovlev on 11/29/2016.
  */
 public interface ILogger extends Logger {
     <T> T logOff(JFuncREx<T> action);
     void logOff(JActionEx action);
+    /**
+     * Message is built only if level is enabled
+     */
+    default void trace(Supplier<String> message) {
+        if (isTraceEnabled()) trace(message.get());
+    }
+    default void debug(Supplier<String> message) {
+        if (isDebugEnabled()) debug(message.get());
+    }
+    default void info(Supplier<String> message) {
+        if (isInfoEnabled()) info(message.get());
+    }
+    default void warn(Supplier<String> message) {
+        if (isWarnEnabled()) warn(message.get());
+    }
+    default void error(Supplier<String> message) {
+        if (isErrorEnabled()) error(message.get());
+    }
 }
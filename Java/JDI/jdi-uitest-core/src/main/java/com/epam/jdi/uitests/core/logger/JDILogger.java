@@ -4,18 +4,24 @@ import com.epam.commons.linqinterfaces.JActionEx;
 import com.epam.commons.linqinterfaces.JFuncREx;
 import org.slf4j.Logger;
 import org.slf4j.Marker;
+import org.slf4j.helpers.FormattingTuple;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static com.epam.jdi.uitests.core.logger.LogLevels.*;
+import static com.epam.jdi.uitests.core.settings.JDISettings.asyncLogging;
 import static java.lang.Thread.currentThread;
+import static org.slf4j.helpers.MessageFormatter.arrayFormat;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * Created by Roman_Iovlev on 1/25/2016.
+ * Level is checked before any formatting; if JDISettings.asyncLogging is on
+ * records are written by background thread (see LogRingBuffer)
  */
 public class JDILogger implements ILogger {
+    private static final Object[] NO_ARGS = new Object[0];
 
     public JDILogger() {
         logger = getLogger("JDI Logger");
@@ -26,39 +32,129 @@ public class JDILogger implements ILogger {
         this.name = name;
     }
 
-    private LogLevels settingslogLevel = INFO;
-    public LogLevels logLevel = settingslogLevel;
+    public LogLevels logLevel = INFO;
+    private final ThreadLocal<Boolean> loggingOff = ThreadLocal.withInitial(() -> false);
 
     public void logOff(JActionEx action) {
         logOff(() -> { action.invoke(); return null; });
     }
+    /**
+     * Switches logging off for current thread only while func runs
+     */
     public <T> T logOff(JFuncREx<T> func) {
-        if (logLevel == OFF) {
-            try { return func.invoke();
-            } catch (Exception ex) { throw new RuntimeException(ex); }
-        }
-        logLevel = OFF;
-        T result;
-        try{ result = func.invoke(); }
-        catch (Exception ex) {throw new RuntimeException(ex); }
-        logLevel = settingslogLevel;
-        return result;
+        boolean wasOff = loggingOff.get();
+        loggingOff.set(true);
+        try { return func.invoke(); }
+        catch (Exception ex) { throw new RuntimeException(ex); }
+        finally { loggingOff.set(wasOff); }
     }
     public void setLogLevel(LogLevels logLevel) {
         this.logLevel = logLevel;
-        this.settingslogLevel = logLevel;
+    }
+    protected boolean isOn(LogLevels level) {
+        return !loggingOff.get() && logLevel.equalOrLessThan(level);
     }
     private String name;
     private Logger logger;
-    private List<Long> multiThread = new ArrayList<>();
+    private final AtomicInteger threadsCount = new AtomicInteger();
+    private final ThreadLocal<String> threadPrefix = ThreadLocal.withInitial(() -> {
+        threadsCount.incrementAndGet();
+        return "[ThreadID: " + currentThread().getId() + "]";
+    });
     private String getRecord(String record) {
-        if (!multiThread.contains(currentThread().getId()))
-            multiThread.add(currentThread().getId());
-        return multiThread.size() > 1
-                ? "[ThreadID: " + currentThread().getId() + "]" + record
+        String prefix = threadPrefix.get();
+        return threadsCount.get() > 1
+                ? prefix + record
                 : record;
     }
 
+    /**
+     * Writes record that is already checked by level<br>
+     * Async record is formatted in calling thread, so it shows args as they are at the moment of the call
+     */
+    protected void write(LogLevels level, Marker marker, String s, Object... args) {
+        String record = getRecord(s);
+        onRecord(level, record, args);
+        if (asyncLogging) {
+            FormattingTuple message = arrayFormat(record, args);
+            LogRingBuffer.instance.write(() ->
+                    out(level, marker, message.getMessage(), message.getThrowable()));
+        }
+        else
+            out(level, marker, record, args);
+    }
+
+    /**
+     * Called in logging thread for every record that passed level check
+     */
+    protected void onRecord(LogLevels level, String record, Object[] args) { }
+
+    /**
+     * Waits till all records from async buffer are written
+     */
+    public void flush() {
+        LogRingBuffer.instance.flush();
+    }
+
+    private void out(LogLevels level, Marker marker, String record, Object[] args) {
+        switch (level) {
+            case TRACE:
+                if (marker == null)
+                    logger.trace(record, args);
+                else logger.trace(marker, record, args);
+                break;
+            case DEBUG:
+                if (marker == null)
+                    logger.debug(record, args);
+                else logger.debug(marker, record, args);
+                break;
+            case INFO:
+                if (marker == null)
+                    logger.info(record, args);
+                else logger.info(marker, record, args);
+                break;
+            case WARNING:
+                if (marker == null)
+                    logger.warn(record, args);
+                else logger.warn(marker, record, args);
+                break;
+            case ERROR:
+                if (marker == null)
+                    logger.error(record, args);
+                else logger.error(marker, record, args);
+                break;
+        }
+    }
+
+    private void out(LogLevels level, Marker marker, String message, Throwable throwable) {
+        switch (level) {
+            case TRACE:
+                if (marker == null)
+                    logger.trace(message, throwable);
+                else logger.trace(marker, message, throwable);
+                break;
+            case DEBUG:
+                if (marker == null)
+                    logger.debug(message, throwable);
+                else logger.debug(marker, message, throwable);
+                break;
+            case INFO:
+                if (marker == null)
+                    logger.info(message, throwable);
+                else logger.info(marker, message, throwable);
+                break;
+            case WARNING:
+                if (marker == null)
+                    logger.warn(message, throwable);
+                else logger.warn(marker, message, throwable);
+                break;
+            case ERROR:
+                if (marker == null)
+                    logger.error(message, throwable);
+                else logger.error(marker, message, throwable);
+                break;
+        }
+    }
 
     public String getName() {
         return name;
@@ -68,29 +164,34 @@ public class JDILogger implements ILogger {
         return logger.isTraceEnabled();
     }
 
+    public void trace(Supplier<String> message) {
+        if (isOn(TRACE))
+            write(TRACE, null, message.get(), NO_ARGS);
+    }
+
     public void trace(String s) {
-        if (logLevel.equalOrLessThan(TRACE))
-            logger.trace(getRecord(s));
+        if (isOn(TRACE))
+            write(TRACE, null, s, NO_ARGS);
     }
 
     public void trace(String s, Object o) {
-        if (logLevel.equalOrLessThan(TRACE))
-            logger.trace(getRecord(s), o);
+        if (isOn(TRACE))
+            write(TRACE, null, s, o);
     }
 
     public void trace(String s, Object o, Object o1) {
-        if (logLevel.equalOrLessThan(TRACE))
-            logger.trace(getRecord(s), o, o1);
+        if (isOn(TRACE))
+            write(TRACE, null, s, o, o1);
     }
 
     public void trace(String s, Object... objects) {
-        if (logLevel.equalOrLessThan(TRACE))
-            logger.trace(getRecord(s), objects);
+        if (isOn(TRACE))
+            write(TRACE, null, s, objects);
     }
 
     public void trace(String s, Throwable throwable) {
-        if (logLevel.equalOrLessThan(TRACE))
-            logger.trace(getRecord(s), throwable);
+        if (isOn(TRACE))
+            write(TRACE, null, s, throwable);
     }
 
     public boolean isTraceEnabled(Marker marker) {
@@ -98,63 +199,62 @@ public class JDILogger implements ILogger {
     }
 
     public void trace(Marker marker, String s) {
-        if (logLevel.equalOrLessThan(TRACE))
-            logger.trace(marker, getRecord(s));
-
+        if (isOn(TRACE))
+            write(TRACE, marker, s, NO_ARGS);
     }
 
     public void trace(Marker marker, String s, Object o) {
-        if (logLevel.equalOrLessThan(TRACE))
-            logger.trace(marker, getRecord(s), o);
-
+        if (isOn(TRACE))
+            write(TRACE, marker, s, o);
     }
 
     public void trace(Marker marker, String s, Object o, Object o1) {
-        if (logLevel.equalOrLessThan(TRACE))
-            logger.trace(marker, getRecord(s), o, o1);
-
+        if (isOn(TRACE))
+            write(TRACE, marker, s, o, o1);
     }
 
     public void trace(Marker marker, String s, Object... objects) {
-        if (logLevel.equalOrLessThan(TRACE))
-            logger.trace(marker, getRecord(s), objects);
-
+        if (isOn(TRACE))
+            write(TRACE, marker, s, objects);
     }
 
     public void trace(Marker marker, String s, Throwable throwable) {
-        if (logLevel.equalOrLessThan(TRACE))
-            logger.trace(marker, getRecord(s), throwable);
+        if (isOn(TRACE))
+            write(TRACE, marker, s, throwable);
     }
 
     public boolean isDebugEnabled() {
         return logger.isDebugEnabled();
     }
 
+    public void debug(Supplier<String> message) {
+        if (isOn(DEBUG))
+            write(DEBUG, null, message.get(), NO_ARGS);
+    }
+
     public void debug(String s) {
-        if (logLevel.equalOrLessThan(DEBUG))
-            logger.debug(getRecord(s));
+        if (isOn(DEBUG))
+            write(DEBUG, null, s, NO_ARGS);
     }
 
     public void debug(String s, Object o) {
-        if (logLevel.equalOrLessThan(DEBUG))
-            logger.debug(getRecord(s), o);
+        if (isOn(DEBUG))
+            write(DEBUG, null, s, o);
     }
 
     public void debug(String s, Object o, Object o1) {
-        if (logLevel.equalOrLessThan(DEBUG))
-            logger.debug(getRecord(s), o, o1);
-
+        if (isOn(DEBUG))
+            write(DEBUG, null, s, o, o1);
     }
 
     public void debug(String s, Object... objects) {
-        if (logLevel.equalOrLessThan(DEBUG))
-            logger.debug(getRecord(s), objects);
-
+        if (isOn(DEBUG))
+            write(DEBUG, null, s, objects);
     }
 
     public void debug(String s, Throwable throwable) {
-        if (logLevel.equalOrLessThan(DEBUG))
-            logger.debug(getRecord(s), throwable);
+        if (isOn(DEBUG))
+            write(DEBUG, null, s, throwable);
     }
 
     public boolean isDebugEnabled(Marker marker) {
@@ -162,62 +262,62 @@ public class JDILogger implements ILogger {
     }
 
     public void debug(Marker marker, String s) {
-        if (logLevel.equalOrLessThan(DEBUG))
-            logger.debug(marker, getRecord(s));
-
+        if (isOn(DEBUG))
+            write(DEBUG, marker, s, NO_ARGS);
     }
 
     public void debug(Marker marker, String s, Object o) {
-        if (logLevel.equalOrLessThan(DEBUG))
-            logger.debug(marker, getRecord(s), o);
-
+        if (isOn(DEBUG))
+            write(DEBUG, marker, s, o);
     }
 
     public void debug(Marker marker, String s, Object o, Object o1) {
-        if (logLevel.equalOrLessThan(DEBUG))
-            logger.debug(marker, getRecord(s), o, o1);
-
+        if (isOn(DEBUG))
+            write(DEBUG, marker, s, o, o1);
     }
 
     public void debug(Marker marker, String s, Object... objects) {
-        if (logLevel.equalOrLessThan(DEBUG))
-            logger.debug(marker, getRecord(s), objects);
-
+        if (isOn(DEBUG))
+            write(DEBUG, marker, s, objects);
     }
 
     public void debug(Marker marker, String s, Throwable throwable) {
-        if (logLevel.equalOrLessThan(DEBUG))
-            logger.debug(marker, getRecord(s), throwable);
+        if (isOn(DEBUG))
+            write(DEBUG, marker, s, throwable);
     }
 
     public boolean isInfoEnabled() {
         return logger.isInfoEnabled();
     }
 
+    public void info(Supplier<String> message) {
+        if (isOn(INFO))
+            write(INFO, null, message.get(), NO_ARGS);
+    }
+
     public void info(String s) {
-        if (logLevel.equalOrLessThan(INFO))
-            logger.info(getRecord(s));
+        if (isOn(INFO))
+            write(INFO, null, s, NO_ARGS);
     }
 
     public void info(String s, Object o) {
-        if (logLevel.equalOrLessThan(INFO))
-            logger.info(getRecord(s), o);
+        if (isOn(INFO))
+            write(INFO, null, s, o);
     }
 
     public void info(String s, Object o, Object o1) {
-        if (logLevel.equalOrLessThan(INFO))
-            logger.info(getRecord(s), o, o1);
-
+        if (isOn(INFO))
+            write(INFO, null, s, o, o1);
     }
 
     public void info(String s, Object... objects) {
-        logger.info(getRecord(s), objects);
-
+        if (isOn(INFO))
+            write(INFO, null, s, objects);
     }
 
     public void info(String s, Throwable throwable) {
-        if (logLevel.equalOrLessThan(INFO))
-            logger.info(getRecord(s), throwable);
+        if (isOn(INFO))
+            write(INFO, null, s, throwable);
     }
 
     public boolean isInfoEnabled(Marker marker) {
@@ -225,63 +325,62 @@ public class JDILogger implements ILogger {
     }
 
     public void info(Marker marker, String s) {
-        if (logLevel.equalOrLessThan(INFO))
-            logger.info(marker, getRecord(s));
-
+        if (isOn(INFO))
+            write(INFO, marker, s, NO_ARGS);
     }
 
     public void info(Marker marker, String s, Object o) {
-        if (logLevel.equalOrLessThan(INFO))
-            logger.info(marker, getRecord(s), o);
-
+        if (isOn(INFO))
+            write(INFO, marker, s, o);
     }
 
     public void info(Marker marker, String s, Object o, Object o1) {
-        if (logLevel.equalOrLessThan(INFO))
-            logger.info(marker, getRecord(s), o, o1);
-
+        if (isOn(INFO))
+            write(INFO, marker, s, o, o1);
     }
 
     public void info(Marker marker, String s, Object... objects) {
-        if (logLevel.equalOrLessThan(INFO))
-            logger.info(marker, getRecord(s), objects);
-
+        if (isOn(INFO))
+            write(INFO, marker, s, objects);
     }
 
     public void info(Marker marker, String s, Throwable throwable) {
-        if (logLevel.equalOrLessThan(INFO))
-            logger.info(marker, getRecord(s), throwable);
+        if (isOn(INFO))
+            write(INFO, marker, s, throwable);
     }
 
     public boolean isWarnEnabled() {
         return logger.isWarnEnabled();
     }
 
+    public void warn(Supplier<String> message) {
+        if (isOn(WARNING))
+            write(WARNING, null, message.get(), NO_ARGS);
+    }
+
     public void warn(String s) {
-        if (logLevel.equalOrLessThan(WARNING))
-            logger.warn(getRecord(s));
+        if (isOn(WARNING))
+            write(WARNING, null, s, NO_ARGS);
     }
 
     public void warn(String s, Object o) {
-        if (logLevel.equalOrLessThan(WARNING))
-            logger.warn(getRecord(s), o);
+        if (isOn(WARNING))
+            write(WARNING, null, s, o);
     }
 
     public void warn(String s, Object o, Object o1) {
-        if (logLevel.equalOrLessThan(WARNING))
-            logger.warn(getRecord(s), o, o1);
-
+        if (isOn(WARNING))
+            write(WARNING, null, s, o, o1);
     }
 
     public void warn(String s, Object... objects) {
-        if (logLevel.equalOrLessThan(WARNING))
-            logger.warn(getRecord(s), objects);
-
+        if (isOn(WARNING))
+            write(WARNING, null, s, objects);
     }
 
     public void warn(String s, Throwable throwable) {
-        if (logLevel.equalOrLessThan(WARNING))
-            logger.warn(getRecord(s), throwable);
+        if (isOn(WARNING))
+            write(WARNING, null, s, throwable);
     }
 
     public boolean isWarnEnabled(Marker marker) {
@@ -289,63 +388,62 @@ public class JDILogger implements ILogger {
     }
 
     public void warn(Marker marker, String s) {
-        if (logLevel.equalOrLessThan(WARNING))
-            logger.warn(marker, getRecord(s));
-
+        if (isOn(WARNING))
+            write(WARNING, marker, s, NO_ARGS);
     }
 
     public void warn(Marker marker, String s, Object o) {
-        if (logLevel.equalOrLessThan(WARNING))
-            logger.warn(marker, getRecord(s), o);
-
+        if (isOn(WARNING))
+            write(WARNING, marker, s, o);
     }
 
     public void warn(Marker marker, String s, Object o, Object o1) {
-        if (logLevel.equalOrLessThan(WARNING))
-            logger.warn(marker, getRecord(s), o, o1);
-
+        if (isOn(WARNING))
+            write(WARNING, marker, s, o, o1);
     }
 
     public void warn(Marker marker, String s, Object... objects) {
-        if (logLevel.equalOrLessThan(WARNING))
-            logger.warn(marker, getRecord(s), objects);
-
+        if (isOn(WARNING))
+            write(WARNING, marker, s, objects);
     }
 
     public void warn(Marker marker, String s, Throwable throwable) {
-        if (logLevel.equalOrLessThan(WARNING))
-            logger.warn(marker, getRecord(s), throwable);
+        if (isOn(WARNING))
+            write(WARNING, marker, s, throwable);
     }
 
     public boolean isErrorEnabled() {
         return logger.isErrorEnabled();
     }
 
+    public void error(Supplier<String> message) {
+        if (isOn(ERROR))
+            write(ERROR, null, message.get(), NO_ARGS);
+    }
+
     public void error(String s) {
-        if (logLevel.equalOrLessThan(ERROR))
-            logger.error(getRecord(s));
+        if (isOn(ERROR))
+            write(ERROR, null, s, NO_ARGS);
     }
 
     public void error(String s, Object o) {
-        if (logLevel.equalOrLessThan(ERROR))
-            logger.error(getRecord(s), o);
+        if (isOn(ERROR))
+            write(ERROR, null, s, o);
     }
 
     public void error(String s, Object o, Object o1) {
-        if (logLevel.equalOrLessThan(ERROR))
-            logger.error(getRecord(s), o, o1);
-
+        if (isOn(ERROR))
+            write(ERROR, null, s, o, o1);
     }
 
     public void error(String s, Object... objects) {
-        if (logLevel.equalOrLessThan(ERROR))
-            logger.error(getRecord(s), objects);
-
+        if (isOn(ERROR))
+            write(ERROR, null, s, objects);
     }
 
     public void error(String s, Throwable throwable) {
-        if (logLevel.equalOrLessThan(ERROR))
-            logger.error(getRecord(s), throwable);
+        if (isOn(ERROR))
+            write(ERROR, null, s, throwable);
     }
 
     public boolean isErrorEnabled(Marker marker) {
@@ -353,27 +451,27 @@ public class JDILogger implements ILogger {
     }
 
     public void error(Marker marker, String s) {
-        if (logLevel.equalOrLessThan(ERROR))
-            logger.error(marker, getRecord(s));
+        if (isOn(ERROR))
+            write(ERROR, marker, s, NO_ARGS);
     }
 
     public void error(Marker marker, String s, Object o) {
-        if (logLevel.equalOrLessThan(ERROR))
-            logger.error(marker, getRecord(s), o);
+        if (isOn(ERROR))
+            write(ERROR, marker, s, o);
     }
 
     public void error(Marker marker, String s, Object o, Object o1) {
-        if (logLevel.equalOrLessThan(ERROR))
-            logger.error(marker, getRecord(s), o, o1);
+        if (isOn(ERROR))
+            write(ERROR, marker, s, o, o1);
     }
 
     public void error(Marker marker, String s, Object... objects) {
-        if (logLevel.equalOrLessThan(ERROR))
-            logger.error(marker, getRecord(s), objects);
+        if (isOn(ERROR))
+            write(ERROR, marker, s, objects);
     }
 
     public void error(Marker marker, String s, Throwable throwable) {
-        if (logLevel.equalOrLessThan(ERROR))
-            logger.error(marker, getRecord(s), throwable);
+        if (isOn(ERROR))
+            write(ERROR, marker, s, throwable);
     }
 }
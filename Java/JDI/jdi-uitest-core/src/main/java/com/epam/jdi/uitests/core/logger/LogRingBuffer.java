@@ -0,0 +1,91 @@
+package com.epam.jdi.uitests.core.logger;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded ring buffer of log records written by background thread<br>
+ * Producers don't lock: they claim a slot with CAS and publish record into it. Records are taken out
+ * one by one under the buffer monitor (by writer thread or by thread that calls flush()), so they are
+ * written in the order slots were claimed. If buffer is full producer blocks to write pending records itself
+ * (see write()), so records of one thread keep their order
+ */
+final class LogRingBuffer {
+    private static final int CAPACITY = 8192;
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+    static final LogRingBuffer instance = new LogRingBuffer();
+
+    private final AtomicReferenceArray<Runnable> slots = new AtomicReferenceArray<>(CAPACITY);
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private LogRingBuffer() { }
+
+    /**
+     * If buffer is full all pending records are written in the calling thread first, then record is queued.
+     * Only if other producers fill the buffer again at once record is written directly after them:
+     * it is still later than every record of its own thread but can go before records of other threads
+     * published at the same moment
+     */
+    void write(Runnable record) {
+        if (offer(record))
+            return;
+        flush();
+        if (!offer(record))
+            synchronized (this) {
+                record.run();
+            }
+    }
+
+    private boolean offer(Runnable record) {
+        startWriter();
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head.get() >= CAPACITY)
+                return false;
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+        slots.set((int) (claimed & (CAPACITY - 1)), record);
+        return true;
+    }
+
+    /**
+     * Writes all records published before this call
+     */
+    synchronized void flush() {
+        long last = tail.get();
+        while (head.get() < last)
+            if (!writeNext())
+                Thread.yield();
+    }
+
+    private synchronized boolean writeNext() {
+        long current = head.get();
+        int index = (int) (current & (CAPACITY - 1));
+        Runnable record = slots.get(index);
+        if (record == null)
+            return false;
+        slots.set(index, null);
+        head.set(current + 1);
+        try {
+            record.run();
+        } catch (Exception ignore) { }
+        return true;
+    }
+
+    private void startWriter() {
+        if (started.get() || !started.compareAndSet(false, true))
+            return;
+        Thread writer = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted())
+                if (!writeNext())
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }, "JDI log writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+    }
+}
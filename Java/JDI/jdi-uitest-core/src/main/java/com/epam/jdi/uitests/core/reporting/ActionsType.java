@@ -21,5 +21,6 @@ package com.epam.jdi.uitests.core.reporting;
  * Created by Roman_Iovlev on 7/26/2015.
  */
 public enum ActionsType {
-    JDI_ACTION
+    JDI_ACTION,
+    JDI_RESULT
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.epam.jdi.uitests.core.reporting;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.lang.Long.numberOfLeadingZeros;
+
+/**
+ * Lock-free log-linear histogram of durations in microseconds (HDR-like, ~3% precision)<br>
+ * Values below 64 are counted exactly, every next power of 2 is split into 32 buckets
+ */
+public class LatencyHistogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int EXACT = SUB_BUCKETS * 2;
+    private static final int EXACT_BITS = SUB_BITS + 1;
+    private static final int BUCKETS = EXACT + (64 - EXACT_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public void recordNanos(long nanos) {
+        record(nanos / 1000);
+    }
+
+    public void record(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(bucket(value));
+        count.incrementAndGet();
+        total.addAndGet(value);
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) { }
+    }
+
+    public long count() { return count.get(); }
+    public long maxMicros() { return max.get(); }
+    public double averageMicros() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) total.get() / n;
+    }
+
+    /**
+     * @param percentile from 0 to 100
+     * @return upper bound of bucket that contains percentile (not more than max)
+     */
+    public long percentileMicros(double percentile) {
+        long n = count.get();
+        if (n == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * n));
+        long passed = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            passed += counts.get(i);
+            if (passed >= rank)
+                return Math.min(upperBound(i), max.get());
+        }
+        return max.get();
+    }
+
+    private static int bucket(long value) {
+        if (value < EXACT)
+            return (int) value;
+        int exponent = 63 - numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return EXACT + (exponent - EXACT_BITS) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int bucket) {
+        if (bucket < EXACT)
+            return bucket;
+        int exponent = (bucket - EXACT) / SUB_BUCKETS + EXACT_BITS;
+        long sub = (bucket - EXACT) % SUB_BUCKETS;
+        return ((SUB_BUCKETS + sub + 1) << (exponent - SUB_BITS)) - 1;
+    }
+}
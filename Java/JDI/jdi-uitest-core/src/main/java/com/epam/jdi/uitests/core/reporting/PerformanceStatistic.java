@@ -17,17 +17,33 @@ package com.epam.jdi.uitests.core.reporting;
  * along with JDI. If not, see <http://www.gnu.org/licenses/>.
  */
 
-import com.epam.commons.map.MapArray;
-
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
-import static com.epam.commons.CalculationUtils.average;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Locale.US;
 
 /**
  * Created by Roman_Iovlev on 7/26/2015.
+ * Latency histograms per ActionsType and per element action (p50/p95/p99/max)
  */
 public final class PerformanceStatistic {
-    private static MapArray<ActionsType, List<Long>> statistic = new MapArray<>();
+    private static final int MAX_ACTIONS = 10000;
+    private static final String OTHER_ACTIONS = "Other actions";
+    private static final Map<ActionsType, LatencyHistogram> byType = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> byAction = new ConcurrentHashMap<>();
+    public static String exportFormats = "";
+    public static String exportFolder = "target/jdi-statistic";
+    public static boolean perAction = true;
 
     private PerformanceStatistic() {
     }
@@ -36,13 +52,109 @@ public final class PerformanceStatistic {
         addStatistic(ActionsType.JDI_ACTION, time);
     }
 
+    /**
+     * @param time in milliseconds
+     */
     public static void addStatistic(ActionsType actionType, long time) {
-        if (statistic.keys().contains(actionType))
-            statistic.get(actionType).add(time);
+        histogram(actionType).record(time * 1000);
+    }
+
+    /**
+     * @param actionName key of element action; if null (or per action statistic is off) only type is counted
+     */
+    public static void addStatisticNanos(ActionsType actionType, String actionName, long nanos) {
+        histogram(actionType).recordNanos(nanos);
+        if (!perAction || actionName == null)
+            return;
+        String key = byAction.size() < MAX_ACTIONS || byAction.containsKey(actionName)
+                ? actionName
+                : OTHER_ACTIONS;
+        byAction.computeIfAbsent(key, k -> new LatencyHistogram()).recordNanos(nanos);
+    }
+
+    public static LatencyHistogram histogram(ActionsType actionType) {
+        return byType.computeIfAbsent(actionType, t -> new LatencyHistogram());
+    }
+    public static LatencyHistogram histogram(String actionName) {
+        return byAction.get(actionName);
+    }
+
+    public static void clear() {
+        byType.clear();
+        byAction.clear();
     }
 
     public static String printStatistic() {
-        return "Average Actions Time: " + statistic.toMapArray(value -> Double.toString(average(value)));
+        StringBuilder result = new StringBuilder("Actions Time (ms):");
+        forEachRow(new TreeMap<>(byType), (name, h) -> result.append(format(US,
+                "%n%s: count=%d, avg=%.1f, p50=%.1f, p95=%.1f, p99=%.1f, max=%.1f", name, h.count(),
+                h.averageMicros() / 1000, ms(h, 50), ms(h, 95), ms(h, 99), h.maxMicros() / 1000.0)));
+        return result.toString();
+    }
+
+    /**
+     * Writes statistic to exportFolder in formats from exportFormats ("csv", "json" or both)
+     */
+    public static List<Path> export() throws IOException {
+        List<Path> result = new ArrayList<>();
+        String formats = exportFormats.toLowerCase();
+        if (formats.contains("csv"))
+            result.add(write("jdi-actions.csv", toCsv()));
+        if (formats.contains("json"))
+            result.add(write("jdi-actions.json", toJson()));
+        return result;
+    }
+
+    public static String toCsv() {
+        StringBuilder result = new StringBuilder(format("group,name,count,avgMs,p50Ms,p95Ms,p99Ms,maxMs%n"));
+        BiConsumer<String, Map<?, LatencyHistogram>> group = (groupName, histograms) ->
+            forEachRow(histograms, (name, h) -> result.append(format(US, "%s,\"%s\",%d,%.1f,%.1f,%.1f,%.1f,%.1f%n",
+                groupName, name.replace("\"", "\"\""), h.count(), h.averageMicros() / 1000,
+                ms(h, 50), ms(h, 95), ms(h, 99), h.maxMicros() / 1000.0)));
+        group.accept("type", new TreeMap<>(byType));
+        group.accept("action", new TreeMap<>(byAction));
+        return result.toString();
     }
 
-}
\ No newline at end of file
+    public static String toJson() {
+        return format("{%n  \"types\": %s,%n  \"actions\": %s%n}%n",
+            toJson(new TreeMap<>(byType)), toJson(new TreeMap<>(byAction)));
+    }
+
+    private static String toJson(Map<?, LatencyHistogram> histograms) {
+        List<String> rows = new ArrayList<>();
+        forEachRow(histograms, (name, h) -> rows.add(format(US,
+            "    {\"name\": \"%s\", \"count\": %d, \"avgMs\": %.1f, \"p50Ms\": %.1f, \"p95Ms\": %.1f, \"p99Ms\": %.1f, \"maxMs\": %.1f}",
+            escapeJson(name), h.count(), h.averageMicros() / 1000, ms(h, 50), ms(h, 95), ms(h, 99),
+            h.maxMicros() / 1000.0)));
+        return rows.isEmpty() ? "[]" : format("[%n%s%n  ]", String.join(format(",%n"), rows));
+    }
+
+    private static void forEachRow(Map<?, LatencyHistogram> histograms, BiConsumer<String, LatencyHistogram> row) {
+        histograms.forEach((name, h) -> {
+            if (h.count() > 0)
+                row.accept(name.toString(), h);
+        });
+    }
+
+    private static double ms(LatencyHistogram histogram, double percentile) {
+        return histogram.percentileMicros(percentile) / 1000.0;
+    }
+
+    private static String escapeJson(String value) {
+        StringBuilder result = new StringBuilder();
+        for (char c : value.toCharArray())
+            if (c == '"' || c == '\\')
+                result.append('\\').append(c);
+            else if (c < ' ')
+                result.append(format("\\u%04x", (int) c));
+            else result.append(c);
+        return result.toString();
+    }
+
+    private static Path write(String fileName, String content) throws IOException {
+        Path folder = Paths.get(exportFolder);
+        Files.createDirectories(folder);
+        return Files.write(folder.resolve(fileName), content.getBytes(UTF_8));
+    }
+}
@@ -17,13 +17,17 @@ package com.epam.jdi.uitests.core.settings;
  * along with JDI. If not, see <http://www.gnu.org/licenses/>.
  */
 
+import com.epam.commons.Timer;
+import com.epam.commons.WaitStrategy;
 import com.epam.jdi.uitests.core.interfaces.IAsserter;
 import com.epam.jdi.uitests.core.interfaces.settings.IDriver;
 import com.epam.jdi.uitests.core.logger.ILogger;
 import com.epam.jdi.uitests.core.logger.LogLevels;
+import com.epam.jdi.uitests.core.reporting.PerformanceStatistic;
 import io.qameta.allure.Step;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 import static com.epam.commons.PropertyReader.fillAction;
 import static com.epam.commons.PropertyReader.getProperties;
@@ -42,6 +46,11 @@ public abstract class JDISettings {
     public static String jdiSettingsPath = "test.properties";
     public static IDriver driverFactory;
     public static boolean useCache = false;
+    public static boolean lazyElements = false;
+    public static boolean cacheWebElements = false;
+    public static boolean cacheSearchContexts = false;
+    public static boolean trackFrames = false;
+    public static boolean asyncLogging = false;
 
     protected JDISettings() {
     }
@@ -59,6 +68,22 @@ public abstract class JDISettings {
         }
     }
 
+    /**
+     * Message is built only if level is on
+     */
+    public static void toLog(Supplier<String> message, LogLevels level) {
+        switch (level) {
+            case INFO:
+                logger.info(message);
+                break;
+            case ERROR:
+                logger.error(message);
+                break;
+            default:
+                logger.debug(message);
+        }
+    }
+
     public static String useDriver(String driverName) {
         return driverFactory.registerDriver(driverName);
     }
@@ -72,8 +97,23 @@ public abstract class JDISettings {
                 p.toLowerCase().equals("true") || p.toLowerCase().equals("1"), "cache");
         fillAction(p -> isDemoMode =
                 p.toLowerCase().equals("true") || p.toLowerCase().equals("1"), "demo.mode");
+        fillAction(p -> lazyElements =
+                p.toLowerCase().equals("true") || p.toLowerCase().equals("1"), "elements.lazy");
+        fillAction(p -> cacheWebElements =
+                p.toLowerCase().equals("true") || p.toLowerCase().equals("1"), "cache.elements");
+        fillAction(p -> cacheSearchContexts =
+                p.toLowerCase().equals("true") || p.toLowerCase().equals("1"), "cache.contexts");
+        fillAction(p -> trackFrames =
+                p.toLowerCase().equals("true") || p.toLowerCase().equals("1"), "frames.track");
+        fillAction(p -> PerformanceStatistic.exportFormats = p, "statistic.export");
+        fillAction(p -> PerformanceStatistic.exportFolder = p, "statistic.folder");
+        fillAction(p -> PerformanceStatistic.perAction = p.toLowerCase().equals("true") || p.toLowerCase().equals("1"),
+                "statistic.perAction");
+        fillAction(p -> asyncLogging =
+                p.toLowerCase().equals("true") || p.toLowerCase().equals("1"), "log.async");
         fillAction(p -> highlightSettings.setTimeoutInSec(parseInt(p)), "demo.delay");
         fillAction(p -> timeouts.setDefaultTimeoutSec(parseInt(p)), "timeout.wait.element");
+        fillAction(p -> Timer.defaultWaitStrategy = WaitStrategy.parse(p), "timeout.retry");
         // fillAction(p -> timeouts.waitPageLoadSec = parseInt(p), "timeout.wait.pageLoad");
     }
 
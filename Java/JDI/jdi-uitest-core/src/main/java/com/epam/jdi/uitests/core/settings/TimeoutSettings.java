@@ -19,28 +19,29 @@ package com.epam.jdi.uitests.core.settings;
 
 /**
  * Created by 12345 on 04.07.2015.
+ * Default timeout is common for all threads, current timeout is set per thread
+ * and starts from default one
  */
 public class TimeoutSettings {
-    private int waitElementSec = 20;
-    private int defaultWaitTimeout = 20;
+    private volatile int defaultWaitTimeout = 20;
+    private final ThreadLocal<Integer> waitElementSec = ThreadLocal.withInitial(() -> defaultWaitTimeout);
     private int waitPageLoadSec = 20;
     private int retryMSec = 100;
 
     public TimeoutSettings() {
-        setCurrentTimeoutSec(waitElementSec);
     }
 
     public void setDefaultTimeoutSec(int timeoutSec) {
         defaultWaitTimeout = timeoutSec;
     }
     public void setCurrentTimeoutSec(int timeoutSec) {
-        waitElementSec = timeoutSec;
+        waitElementSec.set(timeoutSec);
     }
     public int getDefaultTimeoutSec() {
         return defaultWaitTimeout;
     }
     public int getCurrentTimeoutSec() {
-        return waitElementSec;
+        return waitElementSec.get();
     }
 
     public void dropTimeouts() {
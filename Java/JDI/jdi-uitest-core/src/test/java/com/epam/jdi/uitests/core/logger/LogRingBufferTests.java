@@ -0,0 +1,80 @@
+package com.epam.jdi.uitests.core.logger;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.Collections.synchronizedList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class LogRingBufferTests {
+    private static final LogRingBuffer buffer = LogRingBuffer.instance;
+
+    @Test
+    public void flushWritesAllRecordsInOrder() {
+        List<Integer> written = synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 100; i++) {
+            int record = i;
+            buffer.write(() -> written.add(record));
+        }
+        buffer.flush();
+        assertEquals(written.size(), 100);
+        for (int i = 0; i < 100; i++)
+            assertEquals((int) written.get(i), i);
+    }
+
+    @Test
+    public void overflowKeepsOrderOfThread() {
+        int records = 8192 * 3 + 17;
+        List<Integer> written = synchronizedList(new ArrayList<>());
+        for (int i = 0; i < records; i++) {
+            int record = i;
+            buffer.write(() -> written.add(record));
+        }
+        buffer.flush();
+        assertEquals(written.size(), records);
+        for (int i = 0; i < records; i++)
+            assertEquals((int) written.get(i), i);
+    }
+
+    @Test
+    public void recordsOfEveryThreadKeepTheirOrder() throws InterruptedException {
+        int threads = 4, records = 10000;
+        List<String> written = synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            Thread producer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    return;
+                }
+                for (int i = 0; i < records; i++) {
+                    String record = thread + ":" + i;
+                    buffer.write(() -> written.add(record));
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        start.countDown();
+        for (Thread producer : producers)
+            producer.join();
+        buffer.flush();
+        assertEquals(written.size(), threads * records);
+        Map<String, Integer> last = new HashMap<>();
+        for (String record : written) {
+            String[] parts = record.split(":");
+            int index = Integer.parseInt(parts[1]);
+            assertTrue(last.getOrDefault(parts[0], -1) < index, "Record out of order: " + record);
+            last.put(parts[0], index);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.epam.jdi.uitests.core.reporting;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class LatencyHistogramTests {
+    private static void assertWithinBucket(long actual, long expected) {
+        assertTrue(actual >= expected && actual <= expected + expected / 32,
+            "Percentile " + actual + " is not in bucket of " + expected);
+    }
+
+    @Test
+    public void emptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(histogram.count(), 0);
+        assertEquals(histogram.percentileMicros(99), 0);
+        assertEquals(histogram.averageMicros(), 0.0);
+    }
+
+    @Test
+    public void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 64; i++)
+            histogram.record(i);
+        assertEquals(histogram.percentileMicros(0), 0);
+        assertEquals(histogram.percentileMicros(50), 31);
+        assertEquals(histogram.percentileMicros(75), 47);
+        assertEquals(histogram.percentileMicros(100), 63);
+    }
+
+    @Test
+    public void percentilesAreInBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100_000; i++)
+            histogram.record(i);
+        assertWithinBucket(histogram.percentileMicros(50), 50_000);
+        assertWithinBucket(histogram.percentileMicros(90), 90_000);
+        assertWithinBucket(histogram.percentileMicros(99), 99_000);
+        assertEquals(histogram.percentileMicros(100), 100_000);
+    }
+
+    @Test
+    public void bucketBoundsAfterExactValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(64);
+        histogram.record(66);
+        histogram.record(1000);
+        assertEquals(histogram.percentileMicros(30), 65);
+        assertEquals(histogram.percentileMicros(60), 67);
+        assertEquals(histogram.percentileMicros(100), 1000);
+    }
+
+    @Test
+    public void percentileIsNotMoreThanMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+        assertEquals(histogram.percentileMicros(50), 1000);
+        histogram.record(1L << 40);
+        assertEquals(histogram.percentileMicros(100), 1L << 40);
+    }
+
+    @Test
+    public void maxAverageAndNanos() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(10_999);
+        histogram.record(20);
+        histogram.record(-5);
+        assertEquals(histogram.count(), 3);
+        assertEquals(histogram.maxMicros(), 20);
+        assertEquals(histogram.averageMicros(), 10.0);
+    }
+}
@@ -0,0 +1,206 @@
+package com.epam.jdi.uitests.web.selenium.driver;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import com.epam.commons.Timer;
+import com.epam.jdi.uitests.web.selenium.elements.apiInteract.FrameContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.epam.jdi.uitests.core.settings.JDISettings.logger;
+import static com.epam.jdi.uitests.core.settings.JDISettings.trackFrames;
+import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.util.Comparator.comparingLong;
+import static java.util.Locale.US;
+
+/**
+ * Splits time of every JDI action to element lookup, frame switching, other driver commands and waits<br>
+ * Driver commands are counted by decorator of RemoteWebDriver command executor, waits by Timer.sleepListener.
+ * Costs are collected per test in current thread and the most expensive actions can be printed after test<br>
+ * If JDISettings.trackFrames is on the decorator also forgets tracked frame after window is switched or closed
+ */
+public final class CommandAccounting {
+    private CommandAccounting() { }
+
+    public static boolean enabled = false;
+    public static int topActions = 5;
+    private static final String OUTSIDE_ACTIONS = "(outside actions)";
+    private static final ThreadLocal<ActionCost> currentAction = new ThreadLocal<>();
+    private static final ThreadLocal<Map<String, ActionCost>> testActions = ThreadLocal.withInitial(LinkedHashMap::new);
+
+    public static class ActionCost {
+        public final String name;
+        public int commands;
+        public long lookupNanos;
+        public long frameNanos;
+        public long interactionNanos;
+        public long sleepNanos;
+        private ActionCost parent;
+
+        ActionCost(String name) {
+            this.name = name;
+        }
+        public long wireNanos() {
+            return lookupNanos + frameNanos + interactionNanos;
+        }
+        private void add(ActionCost cost) {
+            commands += cost.commands;
+            lookupNanos += cost.lookupNanos;
+            frameNanos += cost.frameNanos;
+            interactionNanos += cost.interactionNanos;
+            sleepNanos += cost.sleepNanos;
+        }
+
+        @Override
+        public String toString() {
+            return format(US, "%s: commands=%d, lookup=%.0fms, frames=%.0fms, interaction=%.0fms, waits=%.0fms",
+                name, commands, lookupNanos / 1e6, frameNanos / 1e6, interactionNanos / 1e6, sleepNanos / 1e6);
+        }
+    }
+
+    /**
+     * Decorates command executor of RemoteWebDriver (driver object itself is not changed)
+     */
+    public static WebDriver wrap(WebDriver driver) {
+        if (!(enabled || trackFrames) || !(driver instanceof RemoteWebDriver))
+            return driver;
+        if (enabled)
+            Timer.sleepListener = CommandAccounting::slept;
+        RemoteWebDriver remoteDriver = (RemoteWebDriver) driver;
+        CommandExecutor executor = remoteDriver.getCommandExecutor();
+        if (executor instanceof AccountingExecutor)
+            return driver;
+        try {
+            Method setter = RemoteWebDriver.class.getDeclaredMethod("setCommandExecutor", CommandExecutor.class);
+            setter.setAccessible(true);
+            setter.invoke(remoteDriver, new AccountingExecutor(remoteDriver, executor));
+        } catch (Exception ex) {
+            logger.debug("Can't count commands of driver: " + ex.getMessage());
+        }
+        return driver;
+    }
+
+    public static void startAction(String name) {
+        if (!enabled) return;
+        ActionCost cost = new ActionCost(name);
+        cost.parent = currentAction.get();
+        currentAction.set(cost);
+    }
+
+    /**
+     * Adds cost of current action to test costs; nested actions are counted in the outer one
+     */
+    public static void endAction() {
+        ActionCost cost = currentAction.get();
+        if (cost == null) return;
+        currentAction.set(cost.parent);
+        if (cost.parent != null)
+            cost.parent.add(cost);
+        else testAction(cost.name).add(cost);
+    }
+
+    /**
+     * @return most expensive actions of current test by time on the wire and waits
+     */
+    public static List<ActionCost> topActions(int count) {
+        List<ActionCost> result = new ArrayList<>(testActions.get().values());
+        result.sort(comparingLong((ActionCost cost) -> cost.wireNanos() + cost.sleepNanos).reversed());
+        return result.size() > count ? result.subList(0, count) : result;
+    }
+
+    public static void logTestActions(String testName) {
+        if (!enabled || testActions.get().isEmpty()) return;
+        StringBuilder report = new StringBuilder(format("Most expensive actions of test '%s':", testName));
+        for (ActionCost cost : topActions(topActions))
+            report.append(format("%n  ")).append(cost);
+        logger.info(report.toString());
+        testActions.get().clear();
+    }
+
+    private static ActionCost testAction(String name) {
+        return testActions.get().computeIfAbsent(name, ActionCost::new);
+    }
+
+    private static ActionCost current() {
+        ActionCost cost = currentAction.get();
+        return cost != null ? cost : testAction(OUTSIDE_ACTIONS);
+    }
+
+    private static void slept(long nanos) {
+        if (enabled)
+            current().sleepNanos += nanos;
+    }
+
+    private static void executed(String command, long nanos) {
+        ActionCost cost = current();
+        cost.commands++;
+        switch (command) {
+            case "findElement":
+            case "findElements":
+            case "findChildElement":
+            case "findChildElements":
+                cost.lookupNanos += nanos;
+                break;
+            case "switchToFrame":
+            case "switchToParentFrame":
+                cost.frameNanos += nanos;
+                break;
+            default:
+                cost.interactionNanos += nanos;
+        }
+    }
+
+    private static class AccountingExecutor implements CommandExecutor {
+        private final WeakReference<WebDriver> driver;
+        private final CommandExecutor executor;
+
+        AccountingExecutor(WebDriver driver, CommandExecutor executor) {
+            this.driver = new WeakReference<>(driver);
+            this.executor = executor;
+        }
+
+        public Response execute(Command command) throws IOException {
+            long start = nanoTime();
+            try {
+                return executor.execute(command);
+            } finally {
+                if (enabled)
+                    executed(command.getName(), nanoTime() - start);
+                switch (command.getName()) {
+                    case "switchToWindow":
+                    case "close":
+                        WebDriver webDriver = driver.get();
+                        if (webDriver != null)
+                            FrameContext.reset(webDriver);
+                }
+            }
+        }
+    }
+}
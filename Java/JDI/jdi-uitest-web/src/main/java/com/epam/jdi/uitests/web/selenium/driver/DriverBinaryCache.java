@@ -0,0 +1,285 @@
+package com.epam.jdi.uitests.web.selenium.driver;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import com.epam.commons.linqinterfaces.JFuncREx;
+import net.lingala.zip4j.core.ZipFile;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFilePermission;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.nio.file.attribute.PosixFilePermission.*;
+
+/**
+ * Local cache of driver binaries: {cacheFolder}/{browser}/{version}/{os}/{binary}<br>
+ * Every binary is stored with its sha-256 checksum and is downloaded again if checksum doesn't match.
+ * Download of the same entry is guarded by a file lock, so parallel threads and processes fetch it once.
+ * In offline mode binaries are taken from pre-populated cacheFolder only
+ */
+public final class DriverBinaryCache {
+    private DriverBinaryCache() { }
+
+    public static String cacheFolder = System.getProperty("user.home") + "/.jdi/drivers";
+    public static boolean offline = false;
+    private static final String CHECKSUM_EXTENSION = ".sha256";
+    private static final Map<String, Object> entryLocks = new ConcurrentHashMap<>();
+    private static final Map<String, String> values = new ConcurrentHashMap<>();
+    private static final EnumSet<PosixFilePermission> EXECUTABLE = EnumSet.of(
+        OWNER_READ, OWNER_WRITE, OWNER_EXECUTE, GROUP_READ, GROUP_EXECUTE, OTHERS_READ, OTHERS_EXECUTE);
+
+    /**
+     * @return path to verified binary in cache, downloads and unpacks archive from downloadUrl if needed
+     */
+    public static Path getBinary(String browser, String version, String os, String binaryName,
+                                 JFuncREx<String> downloadUrl) {
+        Path folder = Paths.get(cacheFolder, browser, version, os);
+        Path binary = folder.resolve(binaryName);
+        if (isValid(binary))
+            return binary;
+        if (offline)
+            throw exception("Can't find %s %s for %s in drivers cache '%s' (offline mode)",
+                browser, version, os, cacheFolder);
+        try {
+            return locked(folder, () -> {
+                if (!isValid(binary))
+                    download(downloadUrl.invoke(), folder, binary);
+                return binary;
+            });
+        } catch (Exception ex) {
+            throw exception("Can't get %s %s. Exception: %s", browser, version, ex.getMessage());
+        }
+    }
+
+    /**
+     * Runs action holding lock of folder for this JVM (entryLocks) and for other processes (file lock)
+     */
+    private static <T> T locked(Path folder, Callable<T> action) throws Exception {
+        synchronized (entryLocks.computeIfAbsent(folder.toString(), k -> new Object())) {
+            Files.createDirectories(folder);
+            try (FileChannel channel = FileChannel.open(folder.resolve(".lock"), CREATE, WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    return action.call();
+                } finally {
+                    lock.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies binary to target path if target is missed or differs from cached one
+     */
+    public static void install(Path binary, Path target) throws IOException {
+        if (Files.exists(target) && checksum(target).equals(readChecksum(binary)))
+            return;
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+        Files.copy(binary, temp, REPLACE_EXISTING);
+        setExecutable(temp);
+        moveAtomic(temp, target);
+    }
+
+    /**
+     * @return value cached in file {cacheFolder}/{name}; in online mode value is taken from url once per run
+     */
+    public static String getCachedValue(String name, JFuncREx<String> url) {
+        return values.computeIfAbsent(name, n -> readValue(n, url));
+    }
+
+    private static String readValue(String name, JFuncREx<String> url) {
+        Path file = Paths.get(cacheFolder, name);
+        try {
+            if (offline) {
+                if (!Files.exists(file))
+                    throw exception("Can't find '%s' in drivers cache '%s' (offline mode)", name, cacheFolder);
+                return new String(Files.readAllBytes(file), UTF_8).trim();
+            }
+            return locked(file.getParent(), () -> {
+                Path temp = downloadTemp(url.invoke(), file.getParent());
+                try {
+                    String value = new String(Files.readAllBytes(temp), UTF_8).trim();
+                    Files.write(temp, value.getBytes(UTF_8));
+                    moveAtomic(temp, file);
+                    return value;
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            });
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw exception("Can't get '%s'. Exception: %s", name, ex.getMessage());
+        }
+    }
+
+    private static void download(String url, Path folder, Path binary) throws Exception {
+        Path archive = downloadTemp(url, folder);
+        Path temp = Files.createTempFile(folder, binary.getFileName().toString(), ".tmp");
+        try {
+            String archiveName = url.toLowerCase();
+            if (archiveName.endsWith(".zip"))
+                unzip(archive, folder, binary.getFileName().toString(), temp);
+            else if (archiveName.endsWith(".tar.gz"))
+                untar(archive, binary.getFileName().toString(), temp);
+            else Files.copy(archive, temp, REPLACE_EXISTING);
+            setExecutable(temp);
+            Files.write(folder.resolve(binary.getFileName() + CHECKSUM_EXTENSION), checksum(temp).getBytes(UTF_8));
+            moveAtomic(temp, binary);
+        } finally {
+            Files.deleteIfExists(archive);
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static Path downloadTemp(String url, Path folder) throws IOException {
+        Files.createDirectories(folder);
+        Path temp = Files.createTempFile(folder, "download", ".tmp");
+        FileUtils.copyURLToFile(new URL(url), temp.toFile());
+        return temp;
+    }
+
+    private static void unzip(Path archive, Path folder, String binaryName, Path target) throws Exception {
+        Path unpacked = Files.createTempDirectory(folder, "unzip");
+        try {
+            new ZipFile(archive.toFile()).extractAll(unpacked.toString());
+            try (Stream<Path> files = Files.walk(unpacked)) {
+                Path found = files.filter(f -> f.getFileName().toString().equals(binaryName)).findFirst()
+                    .orElseThrow(() -> exception("Can't find %s in archive", binaryName));
+                Files.copy(found, target, REPLACE_EXISTING);
+            }
+        } finally {
+            FileUtils.deleteDirectory(unpacked.toFile());
+        }
+    }
+
+    private static void untar(Path archive, String binaryName, Path target) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(archive))) {
+            byte[] header = new byte[512];
+            while (readFully(in, header) && header[0] != 0) {
+                String name = new String(header, 0, 100, UTF_8).trim();
+                long size = Long.parseLong(new String(header, 124, 12, UTF_8).trim(), 8);
+                if (name.endsWith(binaryName)) {
+                    try (OutputStream out = Files.newOutputStream(target)) {
+                        copy(in, out, size);
+                    }
+                    return;
+                }
+                skip(in, (size + 511) / 512 * 512);
+            }
+        }
+        throw exception("Can't find %s in archive", binaryName);
+    }
+
+    private static boolean readFully(InputStream in, byte[] buffer) throws IOException {
+        int read = 0;
+        while (read < buffer.length) {
+            int count = in.read(buffer, read, buffer.length - read);
+            if (count < 0) return false;
+            read += count;
+        }
+        return true;
+    }
+
+    private static void copy(InputStream in, OutputStream out, long size) throws IOException {
+        byte[] buffer = new byte[8192];
+        while (size > 0) {
+            int count = in.read(buffer, 0, (int) Math.min(buffer.length, size));
+            if (count < 0) throw new IOException("Unexpected end of archive");
+            out.write(buffer, 0, count);
+            size -= count;
+        }
+    }
+
+    private static void skip(InputStream in, long size) throws IOException {
+        while (size > 0) {
+            long skipped = in.skip(size);
+            if (skipped <= 0) {
+                if (in.read() < 0) return;
+                skipped = 1;
+            }
+            size -= skipped;
+        }
+    }
+
+    private static boolean isValid(Path binary) {
+        try {
+            return Files.exists(binary) && checksum(binary).equals(readChecksum(binary));
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private static String readChecksum(Path binary) throws IOException {
+        Path file = binary.resolveSibling(binary.getFileName() + CHECKSUM_EXTENSION);
+        return Files.exists(file) ? new String(Files.readAllBytes(file), UTF_8).trim() : "";
+    }
+
+    private static String checksum(Path file) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = Files.newInputStream(file)) {
+                byte[] buffer = new byte[8192];
+                int count;
+                while ((count = in.read(buffer)) > 0)
+                    digest.update(buffer, 0, count);
+            }
+            StringBuilder result = new StringBuilder();
+            for (byte b : digest.digest())
+                result.append(String.format("%02x", b));
+            return result.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    private static void setExecutable(Path file) throws IOException {
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix"))
+            Files.setPosixFilePermissions(file, EXECUTABLE);
+    }
+
+    private static void moveAtomic(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.epam.jdi.uitests.web.selenium.driver;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
+import static com.epam.jdi.uitests.core.settings.JDISettings.logger;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.PageNavigation.navigated;
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Pool of at most size started WebDriver sessions (idle and leased) for each registered driver name<br>
+ * Sessions are leased by test threads and returned back cleaned (extra windows, cookies and storage)
+ * instead of quit. If all sessions are leased lease() waits till one is returned (leaseTimeoutMSec).
+ * Pool can be pre-warmed asynchronously, broken sessions are quit and replaced<br>
+ * close() is called once at the end of test run: it quits idle and leased sessions,
+ * sessions returned or started after it are quit right away
+ */
+public class DriverPool {
+    private static final String CLEAR_STORAGE_SCRIPT =
+        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) { }";
+    private static final long POLL_MSEC = 500;
+    private final int size;
+    private final ConcurrentHashMap<String, BlockingQueue<WebDriver>> idle = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Semaphore> sessions = new ConcurrentHashMap<>();
+    private final Map<WebDriver, String> leased = new ConcurrentHashMap<>();
+    private ExecutorService starter;
+    private volatile boolean closed;
+    public long leaseTimeoutMSec = 10 * 60 * 1000;
+
+    public DriverPool(int size) {
+        this.size = size;
+    }
+
+    private BlockingQueue<WebDriver> idle(String driverName) {
+        return idle.computeIfAbsent(driverName, name -> new LinkedBlockingQueue<>(size));
+    }
+
+    /**
+     * Every started session of driverName (idle or leased) holds one permit
+     */
+    private Semaphore sessions(String driverName) {
+        return sessions.computeIfAbsent(driverName, name -> new Semaphore(size));
+    }
+
+    private synchronized ExecutorService starter() {
+        if (starter == null)
+            starter = Executors.newFixedThreadPool(size, runnable -> {
+                Thread thread = new Thread(runnable, "JDI driver pool");
+                thread.setDaemon(true);
+                return thread;
+            });
+        return starter;
+    }
+
+    /**
+     * Starts sessions in background till pool for driverName is full
+     */
+    public void prewarm(String driverName, Supplier<WebDriver> driver) {
+        if (closed) return;
+        while (sessions(driverName).tryAcquire())
+            starter().submit(() -> {
+                try {
+                    keep(driverName, start(driverName, driver));
+                } catch (Exception ex) {
+                    logger.debug("Can't start pooled driver '%s': %s", driverName, ex.getMessage());
+                }
+            });
+    }
+
+    /**
+     * @return healthy idle session, new one if pool is not full or session returned by other thread
+     */
+    public WebDriver lease(String driverName, Supplier<WebDriver> driver) {
+        if (closed) {
+            WebDriver result = driver.get();
+            leased.put(result, driverName);
+            return result;
+        }
+        long deadline = currentTimeMillis() + leaseTimeoutMSec;
+        while (true) {
+            WebDriver result = idle(driverName).poll();
+            if (result == null && sessions(driverName).tryAcquire())
+                result = start(driverName, driver);
+            if (result == null)
+                try {
+                    result = idle(driverName).poll(POLL_MSEC, MILLISECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw exception("Interrupted while waiting for driver '%s'", driverName);
+                }
+            if (result != null) {
+                if (isHealthy(result)) {
+                    leased.put(result, driverName);
+                    navigated(driverName);
+                    return result;
+                }
+                quit(driverName, result);
+            }
+            if (currentTimeMillis() > deadline)
+                throw exception("Can't lease driver '%s' in %s ms: all %s sessions are busy",
+                    driverName, leaseTimeoutMSec, size);
+        }
+    }
+
+    /**
+     * Starts session for acquired permit; permit is released if session can't be started
+     */
+    private WebDriver start(String driverName, Supplier<WebDriver> driver) {
+        WebDriver result = null;
+        try {
+            result = driver.get();
+        } finally {
+            if (result == null)
+                sessions(driverName).release();
+        }
+        if (result == null)
+            throw exception("Can't start driver '%s'", driverName);
+        return result;
+    }
+
+    /**
+     * Cleans session and keeps it for next lease; session is quit if it is broken or pool is closed<br>
+     * Session already quit by close() is ignored
+     */
+    public void giveBack(String driverName, WebDriver driver) {
+        if (leased.remove(driver) == null)
+            return;
+        if (closed || !clean(driver))
+            quit(driverName, driver);
+        else keep(driverName, driver);
+    }
+
+    private void keep(String driverName, WebDriver driver) {
+        if (closed || !idle(driverName).offer(driver))
+            quit(driverName, driver);
+        else if (closed && idle(driverName).remove(driver))
+            quit(driverName, driver);
+    }
+
+    public void close() {
+        closed = true;
+        synchronized (this) {
+            if (starter != null)
+                starter.shutdownNow();
+            starter = null;
+        }
+        List<WebDriver> drivers = new ArrayList<>();
+        for (WebDriver driver : leased.keySet())
+            if (leased.remove(driver) != null)
+                drivers.add(driver);
+        idle.values().forEach(queue -> queue.drainTo(drivers));
+        drivers.forEach(DriverPool::quit);
+    }
+
+    /**
+     * WebDriver can delete cookies and storage only of the opened page origin, so only origin of the page
+     * session is on when returned is cleaned; tests that use several domains should clean them themselves
+     */
+    private static boolean clean(WebDriver driver) {
+        try {
+            List<String> windows = new ArrayList<>(driver.getWindowHandles());
+            for (int i = 1; i < windows.size(); i++)
+                driver.switchTo().window(windows.get(i)).close();
+            driver.switchTo().window(windows.get(0));
+            driver.manage().deleteAllCookies();
+            if (driver instanceof JavascriptExecutor)
+                ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            driver.get("about:blank");
+            return true;
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+    private void quit(String driverName, WebDriver driver) {
+        quit(driver);
+        sessions(driverName).release();
+    }
+
+    private static void quit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception ignore) { }
+    }
+}
@@ -0,0 +1,46 @@
+package com.epam.jdi.uitests.web.selenium.driver;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.synchronizedMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Implicit wait last set to every driver session<br>
+ * New value is sent to driver only if it differs from the current one
+ */
+public final class ImplicitWait {
+    private ImplicitWait() { }
+
+    private static final Map<WebDriver, Long> implicitWaits = synchronizedMap(new WeakHashMap<>());
+
+    public static void setImplicitWait(WebDriver driver, long time, TimeUnit unit) {
+        long timeInMSec = unit.toMillis(time);
+        Long current = implicitWaits.get(driver);
+        if (current != null && current == timeInMSec)
+            return;
+        driver.manage().timeouts().implicitlyWait(timeInMSec, MILLISECONDS);
+        implicitWaits.put(driver, timeInMSec);
+    }
+}
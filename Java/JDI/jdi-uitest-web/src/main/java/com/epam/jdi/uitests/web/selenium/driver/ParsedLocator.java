@@ -0,0 +1,64 @@
+package com.epam.jdi.uitests.web.selenium.driver;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import org.openqa.selenium.By;
+
+import java.util.function.Function;
+
+import static com.epam.jdi.uitests.web.selenium.driver.WebDriverByUtils.getByTypeFunc;
+
+/**
+ * Locator parsed once: root flag and By used for search (root prefix trimmed, absolute xpath made relative)
+ * are built once and reused
+ */
+public final class ParsedLocator {
+    private final By by;
+    private final boolean root;
+    private final By searchBy;
+
+    public ParsedLocator(By by) {
+        this.by = by;
+        String byAsString = by.toString();
+        int index = byAsString.indexOf(": ");
+        Function<String, By> byFunc = byAsString.startsWith("By.") && index > 0
+            ? getByTypeFunc(byAsString.substring(3, index))
+            : null;
+        if (byFunc == null) {
+            root = false;
+            searchBy = by;
+            return;
+        }
+        String kind = byAsString.substring(3, index);
+        String expression = byAsString.substring(index + 2);
+        root = expression.startsWith("*root*");
+        String searchExpression = root
+            ? expression.replace("*root*", " ").trim()
+            : expression;
+        if (kind.equals("xpath") && searchExpression.startsWith("//"))
+            searchExpression = "." + searchExpression;
+        searchBy = searchExpression.equals(expression) ? by : byFunc.apply(searchExpression);
+    }
+
+    public By by() { return by; }
+    public boolean hasRoot() { return root; }
+    /**
+     * @return By to search with from context: root prefix trimmed, xpath "//..." turned to ".//..."
+     */
+    public By searchBy() { return searchBy; }
+}
@@ -18,6 +18,7 @@ package com.epam.jdi.uitests.web.selenium.driver;
  */
 
 
+import com.epam.commons.ProfilingEvent;
 import com.epam.commons.linqinterfaces.JFuncTREx;
 import com.epam.commons.map.MapArray;
 import com.epam.commons.pairs.Pair;
@@ -40,11 +41,10 @@ import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static com.epam.commons.ProfilingEvent.Kind.DRIVER;
 import static com.epam.commons.ReflectionUtils.isClass;
 import static com.epam.commons.StringUtils.LINE_BREAK;
 import static com.epam.commons.Timer.sleep;
@@ -52,10 +52,12 @@ import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
 import static com.epam.jdi.uitests.core.settings.JDISettings.timeouts;
 import static com.epam.jdi.uitests.core.settings.JDISettings.toLog;
 import static com.epam.jdi.uitests.web.selenium.driver.DriverTypes.*;
+import static com.epam.jdi.uitests.web.selenium.driver.ImplicitWait.setImplicitWait;
 import static com.epam.jdi.uitests.web.selenium.driver.RunTypes.GRID;
 import static com.epam.jdi.uitests.web.selenium.driver.RunTypes.LOCAL;
 import static com.epam.jdi.uitests.web.selenium.driver.RunTypes.REMOTE;
 import static com.epam.jdi.uitests.web.selenium.driver.WebDriverProvider.*;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.ElementsFilter.DISPLAYED;
 import static com.epam.jdi.uitests.web.settings.WebSettings.*;
 import static java.lang.String.format;
 import static java.lang.System.setProperty;
@@ -69,7 +71,7 @@ import static org.openqa.selenium.remote.DesiredCapabilities.internetExplorer;
  * Created by Roman_Iovlev on 6/10/2015.
  */
 public class SeleniumDriverFactory implements IDriver<WebDriver> {
-    public static JFuncTREx<WebElement, Boolean> elementSearchCriteria = WebElement::isDisplayed;
+    public static JFuncTREx<WebElement, Boolean> elementSearchCriteria = DISPLAYED;
     public static boolean onlyOneElementAllowedInSearch = true;
     public RunTypes runType = LOCAL;
     public Boolean getLatestDriver = false;
@@ -80,17 +82,20 @@ public class SeleniumDriverFactory implements IDriver<WebDriver> {
     private String driversPath = FOLDER_PATH;
     private MapArray<String, Supplier<WebDriver>> drivers = new MapArray<>();
     private ThreadLocal<MapArray<String, WebDriver>> runDrivers = new ThreadLocal<>();
+    public int poolSize = 0;
+    public boolean releaseDriversAfterTest = false;
+    private volatile DriverPool pool;
 
     public SeleniumDriverFactory() {
-        this(false, new HighlightSettings(), WebElement::isDisplayed);
+        this(false, new HighlightSettings(), DISPLAYED);
     }
 
     public SeleniumDriverFactory(boolean isDemoMode) {
-        this(isDemoMode, new HighlightSettings(), WebElement::isDisplayed);
+        this(isDemoMode, new HighlightSettings(), DISPLAYED);
     }
 
     public SeleniumDriverFactory(HighlightSettings highlightSettings) {
-        this(false, highlightSettings, WebElement::isDisplayed);
+        this(false, highlightSettings, DISPLAYED);
     }
 
     public SeleniumDriverFactory(JFuncTREx<WebElement, Boolean> elementSearchCriteria) {
@@ -265,32 +270,76 @@ public class SeleniumDriverFactory implements IDriver<WebDriver> {
             driver.manage().window().maximize();
         else
             driver.manage().window().setSize(browserSizes);
-        driver.manage().timeouts().implicitlyWait(timeouts.getCurrentTimeoutSec(), SECONDS);
-        return driver;
+        setImplicitWait(driver, timeouts.getCurrentTimeoutSec(), SECONDS);
+        return CommandAccounting.wrap(driver);
     };
 
+    /**
+     * Sessions are taken from pool if poolSize is set, else new session is started for each thread<br>
+     * Pool is closed by closePool() at the end of test run or on JVM shutdown
+     */
+    public DriverPool pool() {
+        DriverPool result = pool;
+        if (result != null || poolSize <= 0)
+            return result;
+        synchronized (this) {
+            if (pool == null) {
+                DriverPool created = new DriverPool(poolSize);
+                Runtime.getRuntime().addShutdownHook(new Thread(created::close));
+                pool = created;
+            }
+            return pool;
+        }
+    }
+
+    /**
+     * Quits all pooled sessions of all threads; call once when test run is finished
+     */
+    public void closePool() {
+        DriverPool result = pool;
+        if (result != null)
+            result.close();
+    }
+
+    /**
+     * Starts pooled sessions for all registered drivers in background
+     */
+    public void prewarmDrivers() {
+        DriverPool driverPool = pool();
+        if (driverPool == null) return;
+        for (Pair<String, Supplier<WebDriver>> driver : drivers)
+            driverPool.prewarm(driver.key, driver.value);
+    }
+
     public WebDriver getDriver(String driverName) {
-        if (!drivers.keys().contains(driverName))
-            if (drivers.count() == 0)
-                registerDriver(driverName);
-            else throw exception("Can't find driver with name '%s'", driverName);
+        synchronized (drivers) {
+            if (!drivers.keys().contains(driverName))
+                if (drivers.count() == 0)
+                    registerDriver(driverName);
+                else throw exception("Can't find driver with name '%s'", driverName);
+        }
+        ProfilingEvent event = ProfilingEvent.start(DRIVER, driverName, null, null);
+        String outcome = "reused";
         try {
-            Lock lock = new ReentrantLock();
-            lock.lock();
-            if (runDrivers.get() == null || !runDrivers.get().keys().contains(driverName)) {
-                MapArray<String, WebDriver> rDrivers = runDrivers.get();
+            MapArray<String, WebDriver> rDrivers = runDrivers.get();
+            if (rDrivers == null || !rDrivers.keys().contains(driverName)) {
+                DriverPool driverPool = pool();
+                outcome = driverPool != null ? "leased" : "created";
                 if (rDrivers == null)
                     rDrivers = new MapArray<>();
-                WebDriver resultDriver = drivers.get(driverName).get();
+                Supplier<WebDriver> driver = drivers.get(driverName);
+                WebDriver resultDriver = driverPool != null
+                        ? driverPool.lease(driverName, driver)
+                        : driver.get();
                 if (resultDriver == null)
                     throw exception("Can't get WebDriver '%s'. This Driver name not registered", driverName);
                 rDrivers.add(driverName, resultDriver);
                 runDrivers.set(rDrivers);
             }
-            WebDriver result = runDrivers.get().get(driverName);
-            lock.unlock();
-            return result;
+            event.end(1, outcome);
+            return rDrivers.get(driverName);
         } catch (Exception ex) {
+            event.end(1, "failed");
             throw exception("Can't get driver; Thread: " + currentThread().getId() + LINE_BREAK +
                     format("Drivers: %s; Run: %s", drivers, runDrivers) +
                     "Exception: " + ex.getMessage());
@@ -304,7 +353,10 @@ public class SeleniumDriverFactory implements IDriver<WebDriver> {
     public void reopenDriver(String driverName) {
         MapArray<String, WebDriver> rDriver = runDrivers.get();
         if (rDriver.keys().contains(driverName)) {
-            rDriver.get(driverName).close();
+            DriverPool driverPool = pool();
+            if (driverPool != null)
+                driverPool.giveBack(driverName, rDriver.get(driverName));
+            else rDriver.get(driverName).close();
             rDriver.removeByKey(driverName);
             runDrivers.set(rDriver);
         }
@@ -374,10 +426,25 @@ public class SeleniumDriverFactory implements IDriver<WebDriver> {
         return null;
     }
 
+    /**
+     * Closes drivers of current thread only: pooled sessions are returned to pool, others are quit
+     */
     public void close() {
-        for (Pair<String, WebDriver> driver : runDrivers.get())
-            driver.value.quit();
-        runDrivers.get().clear();
+        releaseDrivers();
+    }
+
+    /**
+     * Returns drivers of current thread to pool (or quits them if pool is not used)
+     */
+    public void releaseDrivers() {
+        MapArray<String, WebDriver> rDrivers = runDrivers.get();
+        if (rDrivers == null) return;
+        DriverPool driverPool = pool();
+        for (Pair<String, WebDriver> driver : rDrivers)
+            if (driverPool != null)
+                driverPool.giveBack(driver.key, driver.value);
+            else driver.value.quit();
+        rDrivers.clear();
     }
 
     public void quit() {
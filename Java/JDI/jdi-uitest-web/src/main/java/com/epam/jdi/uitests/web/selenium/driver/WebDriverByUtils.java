@@ -24,8 +24,6 @@ import java.text.MessageFormat;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static com.epam.commons.LinqUtils.first;
 import static com.epam.commons.LinqUtils.select;
@@ -39,8 +37,21 @@ public final class WebDriverByUtils {
 
     private WebDriverByUtils() { }
 
+    private static final Map<String, Function<String, By>> BY_TYPES = getMapByTypes();
+
     public static Function<String, By> getByFunc(By by) {
-        return first(getMapByTypes(), key -> by.toString().contains(key));
+        String byAsString = by.toString();
+        int index = byAsString.indexOf(":");
+        if (byAsString.startsWith("By.") && index > 0) {
+            Function<String, By> byFunc = getByTypeFunc(byAsString.substring(3, index));
+            if (byFunc != null)
+                return byFunc;
+        }
+        return first(BY_TYPES, key -> byAsString.contains("By." + key));
+    }
+
+    static Function<String, By> getByTypeFunc(String byName) {
+        return BY_TYPES.get(byName);
     }
 
     private static String getBadLocatorMsg(String byLocator, Object... args) {
@@ -90,9 +101,10 @@ public final class WebDriverByUtils {
     }
 
     public static String getByName(By by) {
-        Matcher m = Pattern.compile("By\\.(?<locator>.*):.*").matcher(by.toString());
-        if (m.find())
-            return m.group("locator");
+        String byAsString = by.toString();
+        int index = byAsString.indexOf(":");
+        if (byAsString.startsWith("By.") && index > 3)
+            return byAsString.substring(3, index);
         throw new RuntimeException("Can't get By name for: " + by);
     }
 
@@ -125,14 +137,14 @@ public final class WebDriverByUtils {
 
     private static Map<String, Function<String, By>> getMapByTypes() {
         Map<String, Function<String, By>> map = new HashMap<>();
-        map.put("By.cssSelector", By::cssSelector);
-        map.put("By.className", By::className);
-        map.put("By.id", By::id);
-        map.put("By.linkText", By::linkText);
-        map.put("By.name", By::name);
-        map.put("By.partialLinkText", By::partialLinkText);
-        map.put("By.tagName", By::tagName);
-        map.put("By.xpath", By::xpath);
+        map.put("cssSelector", By::cssSelector);
+        map.put("className", By::className);
+        map.put("id", By::id);
+        map.put("linkText", By::linkText);
+        map.put("name", By::name);
+        map.put("partialLinkText", By::partialLinkText);
+        map.put("tagName", By::tagName);
+        map.put("xpath", By::xpath);
         return map;
     }
 }
\ No newline at end of file
@@ -1,17 +1,17 @@
 package com.epam.jdi.uitests.web.selenium.driver;
 
-import net.lingala.zip4j.core.ZipFile;
-import org.apache.commons.io.FileUtils;
+import com.epam.commons.linqinterfaces.JFuncREx;
+import com.epam.commons.linqinterfaces.JFuncTREx;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
+import static com.epam.jdi.uitests.web.selenium.driver.DriverBinaryCache.getBinary;
+import static com.epam.jdi.uitests.web.selenium.driver.DriverBinaryCache.getCachedValue;
+import static com.epam.jdi.uitests.web.selenium.driver.DriverBinaryCache.install;
 import static java.text.MessageFormat.format;
-import static org.apache.commons.io.FileUtils.deleteDirectory;
 
 /**
  * Created by ryoo on 10/06/16.
@@ -20,7 +20,6 @@ import static org.apache.commons.io.FileUtils.deleteDirectory;
 public class WebDriverProvider {
 
     static final String FOLDER_PATH = new File("").getAbsolutePath() + "/src/main/resources/driver/";
-    private static final String TEMP_FOLDER = FOLDER_PATH + "temp/";
     static final String getChromeDriverPath (String folderPath) {
         return checkOS().equals("win") ? folderPath + "/chromedriver.exe" : folderPath + "/chromedriver";
     }
@@ -64,28 +63,17 @@ public class WebDriverProvider {
             return "nix";
         }
     }
-    private static String getLatestVersion() throws IOException {
-        File latestVersionFile = new File(TEMP_FOLDER + "LATEST_RELEASE.txt");
-        FileUtils.copyURLToFile(new URL(CHROME_STORAGE + "LATEST_RELEASE"), latestVersionFile);
-        BufferedReader bf = new BufferedReader(new FileReader(latestVersionFile.getAbsolutePath()));
-        String version = bf.readLine();
-        bf.close();
-        return version;
+    private static String getLatestVersion() {
+        return getCachedValue("chrome/LATEST_RELEASE", () -> CHROME_STORAGE + "LATEST_RELEASE");
     }
-    private static String getVersion() throws IOException {
+    private static String getVersion() {
         return !DRIVER_VERSION.equals("")
                 ? DRIVER_VERSION
                 : getLatestVersion();
     }
-    private static File recreateTempFollder() {
-        File temp = new File(TEMP_FOLDER);
-        temp.delete();
-        temp.mkdirs();
-        return temp;
-    }
 
-    private static String chromeDriverDownloadUrl() throws IOException {
-        String url = CHROME_STORAGE + getVersion() + "/";
+    private static String chromeDriverDownloadUrl(String version) {
+        String url = CHROME_STORAGE + version + "/";
         switch (checkOS()) {
             case "mac":
                 return url + CHROME_MAC_DRIVER;
@@ -96,62 +84,52 @@ public class WebDriverProvider {
         }
     }
 
-    private static String geckoDriverDownloadUrl() throws IOException {
-        String version = "0.16.1";
+    private static String geckoDriverDownloadUrl(String version) {
         switch (checkOS()) {
             case "mac":
-                return format(GECKO_STORAGE, DRIVER_VERSION.equals("") ? version : DRIVER_VERSION, GECKO_MAC_DRIVER);
+                return format(GECKO_STORAGE, version, GECKO_MAC_DRIVER);
             case "win":
-                return format(GECKO_STORAGE, DRIVER_VERSION.equals("") ? version : DRIVER_VERSION, GECKO_WIN_DRIVER);
+                return format(GECKO_STORAGE, version, GECKO_WIN_DRIVER);
             default:
-                return format(GECKO_STORAGE, DRIVER_VERSION.equals("") ? version : DRIVER_VERSION, GECKO_NIX_DRIVER);
+                return format(GECKO_STORAGE, version, GECKO_NIX_DRIVER);
         }
     }
-    private static String ieDriverDownloadUrl() {
-        return format(IE_WIN_DRIVER_URL, DRIVER_VERSION.equals("") ? "2.53" : DRIVER_VERSION);
-    }
-    private static void downloadDriver(String driverName, String driverPath, String zipName, String downloadUrl) {
-        if (!isInStock(driverPath)) {
-            try {
-                File temp = recreateTempFollder();
-                File zip = new File(TEMP_FOLDER + zipName);
-                FileUtils.copyURLToFile(new URL(downloadUrl), zip);
-                new ZipFile(zip).extractAll(FOLDER_PATH);
-                try {
-                    deleteDirectory(temp);
-                }catch(IOException ex){
-                    Thread.sleep(1000);
-                    deleteDirectory(temp);
-                }
-            } catch (Exception e) {
-                throw exception("Can't get %s. Exception: " + e.getMessage(), driverName);
-            }
-        }
+    private static String ieDriverDownloadUrl(String version) {
+        return format(IE_WIN_DRIVER_URL, version);
     }
 
-    public synchronized static void downloadChromeDriver(String folderPath) {
+    /**
+     * Driver binary is taken from DriverBinaryCache (downloaded there once) and copied to driverPath
+     */
+    private static void downloadDriver(String driverName, String driverPath, JFuncREx<String> getVersion,
+                                       JFuncTREx<String, String> downloadUrl) {
+        if (isInStock(driverPath))
+            return;
         try {
-            downloadDriver("ChromeDriver", getChromeDriverPath(folderPath), "chromedriver.zip", chromeDriverDownloadUrl());
-            if (checkOS().equals("mac") || checkOS().equals("nix"))
-                Runtime.getRuntime().exec("chmod u+x " + getChromeDriverPath(folderPath));
-        } catch (IOException e) {
-            throw exception("Can't get %s. Exception: " + e.getMessage(), "ChromeDriver");
+            String version = getVersion.invoke();
+            Path target = Paths.get(driverPath);
+            Path binary = getBinary(driverName, version, checkOS(), target.getFileName().toString(),
+                    () -> downloadUrl.invoke(version));
+            install(binary, target);
+        } catch (Exception e) {
+            throw exception("Can't get %s. Exception: " + e.getMessage(), driverName);
         }
     }
 
+    public static void downloadChromeDriver(String folderPath) {
+        downloadDriver("ChromeDriver", getChromeDriverPath(folderPath),
+                WebDriverProvider::getVersion, WebDriverProvider::chromeDriverDownloadUrl);
+    }
+
     public static void downloadGeckoDriver(String folderPath) {
-        try {
-            downloadDriver("GeckoDriver", getGeckoDriverPath(folderPath), checkOS().equals("win") ? "geckodriver.exe" : "geckodriver", geckoDriverDownloadUrl());
-            if (checkOS().equals("mac") || checkOS().equals("nix"))
-                Runtime.getRuntime().exec("chmod u+x " + getGeckoDriverPath(folderPath));
-        } catch (IOException e) {
-            throw exception("Can't get %s. Exception: " + e.getMessage(), "GeckoDriver");
-        }
+        downloadDriver("GeckoDriver", getGeckoDriverPath(folderPath),
+                () -> DRIVER_VERSION.equals("") ? "0.16.1" : DRIVER_VERSION,
+                WebDriverProvider::geckoDriverDownloadUrl);
     }
 
     public static void downloadIEDriver(String folderPath) {
         downloadDriver("IEDriver", getIEDriverPath(folderPath),
-                format("IEDriverServer_x64_%s.1.zip", DRIVER_VERSION.equals("") ? "2.53" : DRIVER_VERSION),
-                ieDriverDownloadUrl());
+                () -> DRIVER_VERSION.equals("") ? "2.53" : DRIVER_VERSION,
+                WebDriverProvider::ieDriverDownloadUrl);
     }
 }
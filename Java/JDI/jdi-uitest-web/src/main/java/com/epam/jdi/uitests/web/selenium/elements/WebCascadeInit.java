@@ -41,6 +41,9 @@ import org.openqa.selenium.support.FindBy;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 
 import static com.epam.commons.ReflectionUtils.isClass;
@@ -58,6 +61,12 @@ import static com.epam.jdi.uitests.web.settings.WebSettings.*;
  * Created by Roman_Iovlev on 6/10/2015.
  */
 public class WebCascadeInit extends CascadeInit {
+    /**
+     * Locators and frames depend only on field annotations and APP_VERSION (a constant),
+     * so they are resolved once per field and shared: By objects are immutable
+     */
+    private static final Map<Field, Optional<By>> LOCATORS = new ConcurrentHashMap<>();
+    private static final Map<Field, Optional<By>> FRAMES = new ConcurrentHashMap<>();
 
     public Class<?>[] stopTypes() { return new Class<?>[] {Object.class, WebPage.class, Section.class, Element.class}; }
     @Override
@@ -117,7 +126,8 @@ public class WebCascadeInit extends CascadeInit {
         BaseElement element = (BaseElement) instance;
         if (parent != null && type == null)
             return element;
-        By frameBy = getFrame(field.getDeclaredAnnotation(Frame.class));
+        By frameBy = FRAMES.computeIfAbsent(field,
+            f -> Optional.ofNullable(getFrame(f.getDeclaredAnnotation(Frame.class)))).orElse(null);
         if (frameBy != null)
             element.avatar.frameLocator =  frameBy;
         return element;
@@ -160,6 +170,9 @@ public class WebCascadeInit extends CascadeInit {
     }
 
     protected By getNewLocatorFromField(Field field) {
+        return LOCATORS.computeIfAbsent(field, f -> Optional.ofNullable(getLocator(f))).orElse(null);
+    }
+    private static By getLocator(Field field) {
         String locatorGroup = APP_VERSION;
         if (locatorGroup.equals("DEFAULT"))
             return field.isAnnotationPresent(FindBy.class)
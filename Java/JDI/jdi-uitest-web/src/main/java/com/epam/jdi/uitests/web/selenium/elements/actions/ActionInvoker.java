@@ -18,20 +18,31 @@ package com.epam.jdi.uitests.web.selenium.elements.actions;
  */
 
 
-import com.epam.commons.Timer;
+import com.epam.commons.ProfilingEvent;
 import com.epam.commons.linqinterfaces.JAction;
 import com.epam.jdi.uitests.core.logger.LogLevels;
+import com.epam.jdi.uitests.core.reporting.PerformanceStatistic;
 import com.epam.jdi.uitests.core.settings.JDISettings;
+import com.epam.jdi.uitests.web.selenium.driver.CommandAccounting;
 import com.epam.jdi.uitests.web.selenium.elements.base.BaseElement;
 import com.epam.jdi.uitests.web.selenium.elements.base.Element;
 
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static com.epam.commons.ProfilingEvent.Kind.ACTION;
 import static com.epam.commons.ReflectionUtils.isClass;
 import static com.epam.jdi.uitests.core.logger.LogLevels.INFO;
+import static com.epam.jdi.uitests.core.reporting.ActionsType.JDI_ACTION;
+import static com.epam.jdi.uitests.core.reporting.ActionsType.JDI_RESULT;
+import static com.epam.jdi.uitests.core.reporting.PerformanceStatistic.addStatisticNanos;
 import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
+import static com.epam.jdi.uitests.web.selenium.driver.CommandAccounting.endAction;
+import static com.epam.jdi.uitests.web.selenium.driver.CommandAccounting.startAction;
+import static com.epam.jdi.uitests.web.selenium.elements.actions.RetryPolicy.lastAttempts;
+import static com.epam.jdi.uitests.web.selenium.elements.actions.RetryPolicy.resetAttempts;
 import static com.epam.jdi.uitests.web.selenium.elements.base.BaseElement.actionScenrios;
+import static java.lang.System.nanoTime;
 
 /**
  * Created by Roman_Iovlev on 9/3/2015.
@@ -57,11 +68,23 @@ public class ActionInvoker {
 
     public final <TResult> TResult doJActionResult(String actionName, Supplier<TResult> action,
                                                    Function<TResult, String> logResult, LogLevels level) {
+        String statisticKey = statisticKey(actionName);
+        startAction(statisticKey);
+        resetAttempts();
+        ProfilingEvent event = ProfilingEvent.start(ACTION, actionName, element.getName(), element.getLocator());
+        String outcome = "failed";
+        long start = nanoTime();
         try {
             processDemoMode();
-            return actionScenrios.setElement(element).resultScenario(actionName, action, logResult, level);
+            TResult result = actionScenrios.resultScenario(element, actionName, action, logResult, level);
+            outcome = "done";
+            return result;
         } catch (Exception | Error ex) {
             throw exception("Failed to do '%s' action. Reason: %s", actionName, ex);
+        } finally {
+            event.end(lastAttempts(), outcome);
+            endAction();
+            addStatisticNanos(JDI_RESULT, statisticKey, nanoTime() - start);
         }
     }
 
@@ -70,10 +93,30 @@ public class ActionInvoker {
     }
 
     public final void doJAction(String actionName, JAction action, LogLevels level) {
-        Timer.alwaysDoneAction(() -> {
+        String statisticKey = statisticKey(actionName);
+        startAction(statisticKey);
+        resetAttempts();
+        ProfilingEvent event = ProfilingEvent.start(ACTION, actionName, element.getName(), element.getLocator());
+        String outcome = "failed";
+        long start = nanoTime();
+        try {
             processDemoMode();
-            actionScenrios.setElement(element).actionScenario(actionName, action, level);
-        });
+            actionScenrios.actionScenario(element, actionName, action, level);
+            outcome = "done";
+        } finally {
+            event.end(lastAttempts(), outcome);
+            endAction();
+            addStatisticNanos(JDI_ACTION, statisticKey, nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return key of action in statistics or null if per action statistic and command accounting are off
+     */
+    private String statisticKey(String actionName) {
+        return PerformanceStatistic.perAction || CommandAccounting.enabled
+            ? ActionScenrios.statisticKey(element, actionName)
+            : null;
     }
 
     public void processDemoMode() {
@@ -27,14 +27,18 @@ import com.epam.jdi.uitests.web.selenium.elements.base.BaseElement;
 
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import static com.epam.jdi.uitests.core.settings.JDISettings.*;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.PageNavigation.pageChanged;
 import static java.lang.String.format;
 
 /**
  * Created by Roman_Iovlev on 8/10/2015.
  */
 public class ActionScenrios {
+    public static RetryPolicy retryPolicy = new RetryPolicy();
+    private static final Pattern ACTION_VALUES = Pattern.compile("'[^']*'|\\[[^\\]]*\\]|\\d+");
     protected BaseElement element;
 
     public ActionScenrios setElement(BaseElement element) {
@@ -46,17 +50,22 @@ public class ActionScenrios {
         element.logAction(actionName, level);
         logger.logOff(() -> {
         try {
-            new Timer(timeouts.getCurrentTimeoutSec() * 1000).wait(() -> {
+            retryPolicy.getResult(actionName, () -> {
                 jAction.invoke();
                 return true;
             });
         } catch (Exception | Error ex) {
             throw asserter.exception("Do action %s failed. Can't get result. Reason: %s", actionName, ex.getMessage());
+        } finally {
+            pageChanged(element.getAvatar().getDriverName());
         }});
         logger.debug("Done");
     };
 
     public void actionScenario(String actionName, JAction jAction, LogLevels level) {
+        actionScenario(element, actionName, jAction, level);
+    }
+    public void actionScenario(BaseElement element, String actionName, JAction jAction, LogLevels level) {
         actionScenario.invoke(element, actionName,
                 jAction, level);
     }
@@ -66,31 +75,51 @@ public class ActionScenrios {
         element.logAction(actionName);
         Timer timer = new Timer();
         final Object[] result = new Object[1];
-        final String[] stringResult = new String[1];
         logger.logOff(() -> {
             try {
-                result[0] = new Timer(timeouts.getCurrentTimeoutSec() * 1000)
-                        .getResultByCondition(jAction, res -> true);
+                result[0] = retryPolicy.getResult(actionName, jAction);
                 if (result[0] == null)
                     throw asserter.exception("Do action %s failed. Can't get result", actionName);
-                stringResult[0] = logResult == null
-                        ? result[0].toString()
-                        : asserter.silent(() -> logResult.apply(result[0]));
             } catch (Exception | Error ex) {
                 throw asserter.exception("Do action %s failed. Can't get result. Reason: %s", actionName, ex.getMessage());
             }
         });
-        toLog(format("Get result '%s' in %s seconds", stringResult[0],
+        toLog(() -> format("Get result '%s' in %s seconds", logResult == null
+                        ? result[0].toString()
+                        : logger.logOff(() -> asserter.silent(() -> logResult.apply(result[0]))),
                 format("%.2f", (double) timer.timePassedInMSec() / 1000)), level);
         return result[0];
     };
 
     public <TResult> TResult resultScenario(String actionName, Supplier<TResult> jAction,
                      Function<TResult, String> logResult, LogLevels level) {
+        return resultScenario(element, actionName, jAction, logResult, level);
+    }
+    /**
+     * Thread safe: element is passed with every call instead of shared setElement() state
+     */
+    public <TResult> TResult resultScenario(BaseElement element, String actionName, Supplier<TResult> jAction,
+                     Function<TResult, String> logResult, LogLevels level) {
         Function<Object, String> lr = logResult != null
                 ? r -> logResult.apply((TResult) r)
                 : null;
         return (TResult) resultScenario.invoke(element, actionName,
                 jAction::get, lr, level);
     }
+
+    /**
+     * @return page object, element and action name without its values (quoted text and numbers)
+     */
+    static String statisticKey(BaseElement element, String actionName) {
+        Object parent = element.getParent();
+        return (parent != null ? parent.getClass().getSimpleName() + "." : "") + element.getVarName()
+                + ": " + maskValues(actionName);
+    }
+
+    /**
+     * @return action name without its values (quoted text and numbers)
+     */
+    static String maskValues(String actionName) {
+        return ACTION_VALUES.matcher(actionName).replaceAll("*");
+    }
 }
\ No newline at end of file
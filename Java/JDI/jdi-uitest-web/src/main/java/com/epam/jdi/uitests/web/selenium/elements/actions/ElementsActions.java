@@ -46,7 +46,7 @@ public class ElementsActions {
     }
 
     public ActionInvoker invoker() {
-        return element.invoker;
+        return element.invoker();
     }
 
     // Element Actions
@@ -90,6 +90,23 @@ public class ElementsActions {
                 () -> getByCondition(getTextAction, t -> t.contains(text)));
     }
 
+    /**
+     * @param waitInBrowser waits text in browser, returns null if browser can't wait
+     */
+    public String waitText(String text, Supplier<String> getTextAction, Supplier<Boolean> waitInBrowser) {
+        return invoker().doJActionResult(format("Wait text contains '%s'", text), () -> {
+            Boolean found = waitInBrowser.get();
+            if (found == null)
+                return getByCondition(getTextAction, t -> t.contains(text));
+            if (!found)
+                return null;
+            String result = getTextAction.get();
+            return result.contains(text)
+                ? result
+                : getByCondition(getTextAction, t -> t.contains(text));
+        });
+    }
+
     public String waitMatchText(String regEx, Supplier<String> getTextAction) {
         return invoker().doJActionResult(format("Wait text match regex '%s'", regEx),
                 () -> getByCondition(getTextAction, t -> t.matches(regEx)));
@@ -0,0 +1,140 @@
+package com.epam.jdi.uitests.web.selenium.elements.actions;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+import com.epam.commons.Timer;
+import com.epam.commons.WaitStrategy;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static com.epam.jdi.uitests.core.settings.JDISettings.timeouts;
+import static java.lang.System.nanoTime;
+
+/**
+ * The only owner of action retries in the action pipeline<br>
+ * Top level action gets deadline (current timeout) and all nested actions and element lookups
+ * on the same thread share what is left of it instead of starting own timeouts<br>
+ * Counts attempts every action needed (see attemptsStatistic())
+ */
+public class RetryPolicy {
+    private static final ThreadLocal<Long> deadline = new ThreadLocal<>();
+    private static final int MAX_ACTIONS = 10000;
+    private static final String OTHER_ACTIONS = "Other actions";
+    private static final Map<String, AttemptsStatistic> statistic = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Integer> lastAttempts = ThreadLocal.withInitial(() -> 0);
+    public WaitStrategy waitStrategy;
+
+    public RetryPolicy() { }
+    public RetryPolicy(WaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * @return timeout limited by deadline of the running action
+     */
+    public static long remainingMSec(long timeoutInMSec) {
+        Long actionDeadline = deadline.get();
+        if (actionDeadline == null)
+            return timeoutInMSec;
+        return Math.max(0, Math.min(timeoutInMSec, (actionDeadline - nanoTime()) / 1_000_000));
+    }
+
+    /**
+     * Retries action till it returns not null result or deadline passed<br>
+     * Nested call (action inside another action on the same thread) gets no own timeout: it is limited
+     * by what is left of the top level deadline, so the whole action never waits longer than current timeout.
+     * Statistic is counted by action name without its values (see ActionScenrios.maskValues())
+     * @return result or null if there is no result in time
+     */
+    public <T> T getResult(String actionName, Supplier<T> action) {
+        long timeout = remainingMSec(timeouts.getCurrentTimeoutSec() * 1000L);
+        boolean topLevel = deadline.get() == null;
+        if (topLevel)
+            deadline.set(nanoTime() + timeout * 1_000_000);
+        int[] attempts = new int[1];
+        try {
+            Timer timer = new Timer(timeout);
+            if (waitStrategy != null)
+                timer.setWaitStrategy(waitStrategy);
+            return timer.getResult(() -> {
+                attempts[0]++;
+                return action.get();
+            });
+        } finally {
+            if (topLevel)
+                deadline.remove();
+            statistic(ActionScenrios.maskValues(actionName)).add(attempts[0]);
+            lastAttempts.set(attempts[0]);
+        }
+    }
+
+    private static AttemptsStatistic statistic(String actionName) {
+        String key = statistic.size() < MAX_ACTIONS || statistic.containsKey(actionName)
+                ? actionName
+                : OTHER_ACTIONS;
+        return statistic.computeIfAbsent(key, name -> new AttemptsStatistic());
+    }
+
+    /**
+     * @return attempts of the last finished action in current thread
+     */
+    public static int lastAttempts() {
+        return lastAttempts.get();
+    }
+
+    /**
+     * Called when action starts, so action that fails before retries reports 0 attempts
+     */
+    static void resetAttempts() {
+        lastAttempts.set(0);
+    }
+
+    public static Map<String, AttemptsStatistic> attemptsStatistic() {
+        return new TreeMap<>(statistic);
+    }
+    public static void clearStatistic() {
+        statistic.clear();
+    }
+
+    public static class AttemptsStatistic {
+        private long actions;
+        private long attempts;
+        private int maxAttempts;
+
+        synchronized void add(int actionAttempts) {
+            actions++;
+            attempts += actionAttempts;
+            maxAttempts = Math.max(maxAttempts, actionAttempts);
+        }
+        public synchronized long actions() { return actions; }
+        public synchronized long attempts() { return attempts; }
+        public synchronized int maxAttempts() { return maxAttempts; }
+        public synchronized double averageAttempts() {
+            return actions == 0 ? 0 : (double) attempts / actions;
+        }
+        @Override
+        public synchronized String toString() {
+            return String.format("actions: %s; attempts: %s (avg %.2f, max %s)",
+                actions, attempts, averageAttempts(), maxAttempts);
+        }
+    }
+}
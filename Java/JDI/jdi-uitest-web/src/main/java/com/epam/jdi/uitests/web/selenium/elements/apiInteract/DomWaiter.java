@@ -0,0 +1,110 @@
+package com.epam.jdi.uitests.web.selenium.elements.apiInteract;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static java.util.Collections.synchronizedMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Waits for condition inside the browser with one async script: condition is checked on every DOM mutation
+ * (MutationObserver) and every 50 ms for changes that don't mutate DOM (e.g. css animations)<br>
+ * Returns null if driver can't execute async scripts or if one of element arguments is removed from document
+ * (page re-rendered it), then caller should poll from test side and find element again
+ */
+public final class DomWaiter {
+    private DomWaiter() { }
+
+    public static final String DISPLAYED = "return visible(args[0]);";
+    public static final String VANISHED = "return !visible(args[0]);";
+    public static final String ALL_VANISHED = "return args[0].every(function(el) { return !visible(el); });";
+    public static final String TEXT_CONTAINS = "return text(args[0]).indexOf(args[1]) >= 0;";
+
+    private static final String WAIT_SCRIPT =
+        "var args = Array.prototype.slice.call(arguments, 0, arguments.length - 2),"
+        + "    timeout = arguments[arguments.length - 2], done = arguments[arguments.length - 1];"
+        + "function visible(el) {"
+        + "  return !!el && document.documentElement.contains(el)"
+        + "    && !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)"
+        + "    && window.getComputedStyle(el).visibility !== 'hidden';"
+        + "}"
+        + "function text(el) {"
+        + "  var t = (el.innerText || el.textContent || '').trim();"
+        + "  return t === '' && typeof el.value === 'string' ? el.value : t;"
+        + "}"
+        + "function detached() {"
+        + "  return [].concat.apply([], args).some(function(el) {"
+        + "    return el instanceof Element && !document.documentElement.contains(el); });"
+        + "}"
+        + "function check() { try { return !!(function(args) { %s })(args); } catch (e) { return false; } }"
+        + "if (detached()) { done('detached'); return; }"
+        + "if (check()) { done(true); return; }"
+        + "var finished = false, observer, interval, timer;"
+        + "function finish(result) {"
+        + "  if (finished) return;"
+        + "  finished = true; observer.disconnect(); clearInterval(interval); clearTimeout(timer);"
+        + "  done(result);"
+        + "}"
+        + "function recheck() { if (detached()) finish('detached'); else if (check()) finish(true); }"
+        + "observer = new MutationObserver(recheck);"
+        + "observer.observe(document.documentElement,"
+        + "  { attributes: true, childList: true, subtree: true, characterData: true });"
+        + "interval = setInterval(recheck, 50);"
+        + "timer = setTimeout(function() { finish(detached() ? 'detached' : check()); }, timeout);";
+
+    private static final Map<WebDriver, Long> scriptTimeouts = synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * @param condition body of js function(args) (see DISPLAYED, VANISHED, ...)
+     * @return true if condition met, false if timeout passed, null if browser can't wait or element is detached
+     */
+    public static Boolean waitFor(WebDriver driver, String condition, long timeoutInMSec, Object... args) {
+        if (!(driver instanceof JavascriptExecutor))
+            return null;
+        try {
+            setScriptTimeout(driver, timeoutInMSec);
+            Object[] scriptArgs = Arrays.copyOf(args, args.length + 1);
+            scriptArgs[args.length] = timeoutInMSec;
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(
+                String.format(WAIT_SCRIPT, condition), scriptArgs);
+            return result instanceof Boolean ? (Boolean) result : null;
+        } catch (ScriptTimeoutException ex) {
+            return false;
+        } catch (WebDriverException ex) {
+            return null;
+        }
+    }
+
+    private static void setScriptTimeout(WebDriver driver, long timeoutInMSec) {
+        long scriptTimeout = timeoutInMSec + 1000;
+        Long current = scriptTimeouts.get(driver);
+        if (current != null && current >= scriptTimeout)
+            return;
+        driver.manage().timeouts().setScriptTimeout(scriptTimeout, MILLISECONDS);
+        scriptTimeouts.put(driver, scriptTimeout);
+    }
+}
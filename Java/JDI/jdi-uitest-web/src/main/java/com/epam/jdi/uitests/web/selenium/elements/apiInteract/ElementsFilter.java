@@ -0,0 +1,93 @@
+package com.epam.jdi.uitests.web.selenium.elements.apiInteract;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+import com.epam.commons.linqinterfaces.JFuncTREx;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.epam.commons.LinqUtils.where;
+
+/**
+ * Filters found elements by search criteria<br>
+ * DISPLAYED criteria is checked for all elements with one script call instead of isDisplayed() call per element,
+ * ANY criteria doesn't need browser at all, other criteria are checked element by element
+ */
+public final class ElementsFilter {
+    private ElementsFilter() { }
+
+    public static final JFuncTREx<WebElement, Boolean> DISPLAYED = WebElement::isDisplayed;
+    public static final JFuncTREx<WebElement, Boolean> ANY = Objects::nonNull;
+
+    /**
+     * Script function shown(el) close to WebElement.isDisplayed(): option and optgroup are displayed
+     * if their select is displayed, transparent ancestor hides element as well
+     */
+    public static final String SHOWN_FUNCTION =
+        "function shown(el) {"
+        + "  if (!el) return false;"
+        + "  if (el.tagName === 'OPTION' || el.tagName === 'OPTGROUP') {"
+        + "    var select = el.closest('select, datalist');"
+        + "    return !!select && shown(select);"
+        + "  }"
+        + "  if (!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)) return false;"
+        + "  if (window.getComputedStyle(el).visibility === 'hidden') return false;"
+        + "  for (var node = el; node && node.nodeType === 1; node = node.parentElement)"
+        + "    if (window.getComputedStyle(node).opacity === '0') return false;"
+        + "  return true;"
+        + "}";
+
+    private static final String DISPLAYED_SCRIPT = SHOWN_FUNCTION
+        + "var result = [];"
+        + "for (var i = 0; i < arguments[0].length; i++)"
+        + "  if (shown(arguments[0][i])) result.push(i);"
+        + "return result;";
+
+    public static List<WebElement> filter(WebDriver driver, List<WebElement> elements,
+                                          JFuncTREx<WebElement, Boolean> criteria) {
+        if (elements == null || elements.isEmpty() || criteria == ANY)
+            return elements;
+        if (criteria == DISPLAYED && elements.size() > 1 && driver instanceof JavascriptExecutor) {
+            List<WebElement> result = filterDisplayed((JavascriptExecutor) driver, elements);
+            if (result != null)
+                return result;
+        }
+        return where(elements, criteria);
+    }
+
+    private static List<WebElement> filterDisplayed(JavascriptExecutor js, List<WebElement> elements) {
+        try {
+            Object displayed = js.executeScript(DISPLAYED_SCRIPT, elements);
+            if (!(displayed instanceof List))
+                return null;
+            List<WebElement> result = new ArrayList<>();
+            for (Object index : (List<?>) displayed)
+                result.add(elements.get(((Number) index).intValue()));
+            return result;
+        } catch (WebDriverException | ClassCastException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.epam.jdi.uitests.web.selenium.elements.apiInteract;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static com.epam.jdi.uitests.core.settings.JDISettings.trackFrames;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.PageNavigation.navigationsCount;
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * Frame the driver is switched to, as path of frame locators from the top document<br>
+ * If JDISettings.trackFrames is on, toDefault()/toFrame() only set target frame and sync() switches driver
+ * right before search and only if target differs from current frame: if target is inside current frame
+ * only missed frames are switched<br>
+ * Current frame is forgotten after navigation (WebPage open, refresh...) and after window switch
+ * (see CommandAccounting). Call reset() after switching frames directly with driver
+ */
+public final class FrameContext {
+    private static final Map<WebDriver, FrameContext> contexts = synchronizedMap(new WeakHashMap<>());
+
+    private final WebDriver driver;
+    private final String driverName;
+    private List<By> current;
+    private long navigation;
+    private List<By> target = new ArrayList<>();
+
+    private FrameContext(WebDriver driver, String driverName) {
+        this.driver = driver;
+        this.driverName = driverName;
+    }
+
+    public static FrameContext frameContext(WebDriver driver, String driverName) {
+        return contexts.computeIfAbsent(driver, d -> new FrameContext(d, driverName));
+    }
+
+    public WebDriver toDefault() {
+        target = new ArrayList<>();
+        if (!trackFrames)
+            driver.switchTo().defaultContent();
+        return driver;
+    }
+
+    public void toFrame(By frame) {
+        target.add(frame);
+        if (!trackFrames)
+            driver.switchTo().frame(driver.findElement(frame));
+    }
+
+    public void sync() {
+        if (!trackFrames)
+            return;
+        if (current != null && navigation != navigationsCount(driverName))
+            current = null;
+        if (target.equals(current))
+            return;
+        if (current == null || current.size() > target.size()
+                || !target.subList(0, current.size()).equals(current)) {
+            current = null;
+            driver.switchTo().defaultContent();
+            current = new ArrayList<>();
+        }
+        List<By> path = new ArrayList<>(current);
+        current = null;
+        for (By frame : target.subList(path.size(), target.size())) {
+            driver.switchTo().frame(driver.findElement(frame));
+            path.add(frame);
+        }
+        current = path;
+        navigation = navigationsCount(driverName);
+    }
+
+    public void reset() {
+        current = null;
+    }
+
+    /**
+     * Forgets current frame of driver if it has tracked one
+     */
+    public static void reset(WebDriver driver) {
+        FrameContext context = contexts.get(driver);
+        if (context != null)
+            context.reset();
+    }
+}
@@ -17,30 +17,45 @@ package com.epam.jdi.uitests.web.selenium.elements.apiInteract;
  * along with JDI. If not, see <http://www.gnu.org/licenses/>.
  */
 
+import com.epam.commons.ProfilingEvent;
 import com.epam.commons.Timer;
 import com.epam.commons.linqinterfaces.JFuncTREx;
 import com.epam.jdi.uitests.core.interfaces.base.IAvatar;
 import com.epam.jdi.uitests.core.interfaces.base.IBaseElement;
+import com.epam.jdi.uitests.web.selenium.driver.ParsedLocator;
 import com.epam.jdi.uitests.web.selenium.elements.base.BaseElement;
 import com.epam.jdi.uitests.web.selenium.elements.base.Element;
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.function.Supplier;
 
 import static com.epam.commons.LinqUtils.any;
+import static com.epam.commons.ProfilingEvent.Kind.LOOKUP;
 import static com.epam.commons.LinqUtils.where;
 import static com.epam.commons.ReflectionUtils.isClass;
 import static com.epam.jdi.uitests.core.settings.JDISettings.*;
 import static com.epam.jdi.uitests.web.selenium.driver.SeleniumDriverFactory.elementSearchCriteria;
 import static com.epam.jdi.uitests.web.selenium.driver.SeleniumDriverFactory.onlyOneElementAllowedInSearch;
 import static com.epam.jdi.uitests.web.selenium.driver.WebDriverByUtils.*;
+import static com.epam.jdi.uitests.web.selenium.elements.actions.RetryPolicy.remainingMSec;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.ElementsFilter.ANY;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.ElementsFilter.filter;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.FrameContext.frameContext;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.PageNavigation.navigationsCount;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.PageNavigation.pageVersion;
 import static java.lang.String.format;
+import static java.util.Collections.synchronizedMap;
 
 /**
  * Created by Roman_Iovlev on 7/3/2015.
@@ -51,12 +66,15 @@ public class GetElementModule implements IAvatar {
     private static final String FIND_TO_MUCH_ELEMENTS_MESSAGE
             = "Find %s elements instead of one for Element '%s' during %s seconds";
     private By byLocator;
+    private volatile ParsedLocator parsedLocator;
     public By frameLocator;
     public JFuncTREx<WebElement, Boolean> localElementSearchCriteria = null;
     private String driverName = "";
     private BaseElement element;
     private WebElement webElement;
     private List<WebElement> webElements;
+    private final Map<WebDriver, Resolved<WebElement>> cachedElements = synchronizedMap(new WeakHashMap<>());
+    private final Map<WebDriver, Resolved<SearchContext>> cachedContexts = synchronizedMap(new WeakHashMap<>());
 
     public GetElementModule(BaseElement element) {
         this.element = element;
@@ -69,6 +87,23 @@ public class GetElementModule implements IAvatar {
         this.byLocator = byLocator;
     }
 
+    /**
+     * Locator is parsed again only if it differs from the last parsed one (e.g. getLocator() is overridden
+     * by element); search contexts cached for previous locator are forgotten then
+     */
+    private ParsedLocator parse(By locator) {
+        if (locator == null)
+            return null;
+        ParsedLocator parsed = parsedLocator;
+        if (parsed != null && (parsed.by() == locator || parsed.by().equals(locator)))
+            return parsed;
+        parsed = new ParsedLocator(locator);
+        if (parsedLocator != null)
+            cachedContexts.clear();
+        parsedLocator = parsed;
+        return parsed;
+    }
+
     public GetElementModule copy() {
         return copy(byLocator);
     }
@@ -94,24 +129,43 @@ public class GetElementModule implements IAvatar {
     public WebDriver getDriver() {
         return (WebDriver) driverFactory.getDriver(driverName);
     }
+    public FrameContext frames() {
+        return frameContext(getDriver(), driverName);
+    }
     public String getDriverName() {
         return driverName;
     }
     public void setDriverName(String driverName) { this.driverName = driverName; }
 
     public WebElement getElement() {
-        logger.debug("Get Web Element: " + element);
-        WebElement element = webElement != null
-                ? webElement
-                : getElementAction();
+        logger.debug(() -> "Get Web Element: " + element);
+        ProfilingEvent event = ProfilingEvent.start(LOOKUP, "getElement", this.element.getName(), byLocator);
+        WebElement element;
+        try {
+            element = webElement != null
+                    ? webElement
+                    : getResolvedElement();
+        } catch (RuntimeException | Error ex) {
+            event.end(1, "failed");
+            throw ex;
+        }
+        event.end(1, "found");
         //: timer().getResultByCondition(this::getElementAction, Objects::nonNull);
         logger.debug("One Element found");
         return element;
     }
 
     public List<WebElement> getElements() {
-        logger.debug("Get Web elements: " + element);
-        List<WebElement> elements = getElementsAction();
+        logger.debug(() -> "Get Web elements: " + element);
+        ProfilingEvent event = ProfilingEvent.start(LOOKUP, "getElements", element.getName(), byLocator);
+        List<WebElement> elements;
+        try {
+            elements = getElementsAction();
+        } catch (RuntimeException | Error ex) {
+            event.end(1, "failed");
+            throw ex;
+        }
+        event.end(1, "found " + elements.size());
         logger.debug("Found %s elements", elements.size());
         return elements;
     }
@@ -119,7 +173,7 @@ public class GetElementModule implements IAvatar {
     public <T> T findImmediately(Supplier<T> func, T ifError) {
         element.setWaitTimeout(0);
         JFuncTREx<WebElement, Boolean> temp = localElementSearchCriteria;
-        localElementSearchCriteria = el -> true;
+        localElementSearchCriteria = ANY;
         T result;
         try {
             result = func.get();
@@ -131,26 +185,26 @@ public class GetElementModule implements IAvatar {
         return result;
     }
 
+    /**
+     * Timer is woken up by page changes of element driver (see PageNavigation)
+     */
     public Timer timer(int sec) {
-        return new Timer(sec * 1000);
+        return new Timer(sec * 1000).wakeOn(driverName);
     }
     public Timer timer() {
-        return timer(timeouts.getCurrentTimeoutSec());
+        return new Timer(remainingMSec(timeouts.getCurrentTimeoutSec() * 1000L)).wakeOn(driverName);
     }
     private List<WebElement> getElementsByCondition(JFuncTREx<WebElement, Boolean> condition) {
         List<WebElement> elements = timer().getResultByCondition(
-                this::searchElements,
-                els -> any(els, getSearchCriteria()));
-        if (elements == null || elements.size() == 0)
-            return new ArrayList<>();
-        return elements.size() < 10 ? where(elements, condition) : elements;
+                () -> filter(getDriver(), searchElements(), condition),
+                els -> els.size() > 0);
+        return elements != null ? elements : new ArrayList<>();
     }
 
     private List<WebElement> getElementsAction() {
         if (webElements != null)
             return webElements;
         List<WebElement> result = getElementsByCondition(getSearchCriteria());
-        timeouts.dropTimeouts();
         if (result == null)
             throw exception("Can't get Web Elements");
         return result;
@@ -161,7 +215,7 @@ public class GetElementModule implements IAvatar {
     }
 
     public GetElementModule searchAll() {
-        localElementSearchCriteria = Objects::nonNull;
+        localElementSearchCriteria = ANY;
         return this;
     }
     private List<WebElement> getOneOrMoreElements() {
@@ -170,7 +224,63 @@ public class GetElementModule implements IAvatar {
                 : searchElements();
         if (result.size() == 1)
             return result;
-        return where(result, el -> getSearchCriteria().invoke(el));
+        return filter(getDriver(), result, getSearchCriteria());
+    }
+
+    /**
+     * Value resolved in browser of one driver session and page version it was resolved for
+     */
+    private static class Resolved<T> {
+        final T value;
+        final long version;
+
+        Resolved(T value, long version) {
+            this.value = value;
+            this.version = version;
+        }
+    }
+
+    /**
+     * If JDISettings.cacheWebElements is on, last found WebElement is reused for the same driver session
+     * till page navigation while it still meets search criteria. Navigation by link click is caught by this check
+     * too (element of previous document is stale). Elements in frames and elements searched with custom criteria
+     * are not cached
+     */
+    private WebElement getResolvedElement() {
+        if (!cacheWebElements || localElementSearchCriteria != null || hasFrameInContext())
+            return getElementAction();
+        WebDriver driver = getDriver();
+        long navigation = navigationsCount(driverName);
+        Resolved<WebElement> cached = cachedElements.get(driver);
+        if (cached != null && cached.version == navigation && meetsCriteria(cached.value))
+            return cached.value;
+        cachedElements.remove(driver);
+        WebElement result = getElementAction();
+        cachedElements.put(driver, new Resolved<>(result, navigation));
+        return result;
+    }
+
+    private boolean meetsCriteria(WebElement element) {
+        try {
+            JFuncTREx<WebElement, Boolean> criteria = getSearchCriteria();
+            if (criteria != ANY)
+                return criteria.invoke(element);
+            element.isEnabled();
+            return true;
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+    private boolean hasFrameInContext() {
+        Object current = element;
+        while (current != null && isClass(current.getClass(), BaseElement.class)) {
+            BaseElement bElement = (BaseElement) current;
+            if (bElement.avatar.frameLocator != null)
+                return true;
+            current = bElement.getParent();
+        }
+        return false;
     }
 
     private WebElement getElementAction() {
@@ -195,35 +305,81 @@ public class GetElementModule implements IAvatar {
         if (element == null || !isClass(element.getClass(), BaseElement.class)
                 || ((p = (bElement = (BaseElement) element).getParent()) == null
                 && bElement.avatar.frameLocator == null))
-            return getDriver().switchTo().defaultContent();
+            return frames().toDefault();
         if (isClass(bElement.getClass(), Element.class)
                 && (el = (Element) bElement).avatar.hasWebElement())
             return el.getWebElement();
-        By locator = bElement.getLocator();
-        SearchContext searchContext = containsRoot(locator)
-                ? getDriver().switchTo().defaultContent()
+        GetElementModule avatar = bElement.avatar;
+        ParsedLocator locator = avatar.parse(bElement.getLocator());
+        boolean cacheContext = cacheSearchContexts && locator != null && !avatar.hasFrameInContext();
+        WebDriver driver = getDriver();
+        long version = pageVersion(driverName);
+        Resolved<SearchContext> cached = cacheContext ? avatar.cachedContexts.get(driver) : null;
+        if (cached != null && cached.version == version) {
+            frames().toDefault();
+            return cached.value;
+        }
+        SearchContext searchContext = locator != null && locator.hasRoot()
+                ? frames().toDefault()
                 : getSearchContext(p);
-        locator = containsRoot(locator)
-                ? trimRoot(locator)
-                : locator;
         By frame = bElement.avatar.frameLocator;
         if (frame != null)
-            getDriver().switchTo().frame(getDriver().findElement(frame));
-        return locator != null
-                ? searchContext.findElement(correctXPaths(locator))
-                : searchContext;
+            frames().toFrame(frame);
+        if (locator == null)
+            return searchContext;
+        frames().sync();
+        WebElement context = searchContext.findElement(locator.searchBy());
+        if (cacheContext)
+            avatar.cachedContexts.put(driver, new Resolved<>(context, version));
+        return context;
     }
 
+    private boolean dropSearchContexts() {
+        WebDriver driver = getDriver();
+        boolean dropped = false;
+        Object current = element.getParent();
+        while (current != null && isClass(current.getClass(), BaseElement.class)) {
+            dropped |= ((BaseElement) current).avatar.cachedContexts.remove(driver) != null;
+            current = ((BaseElement) current).getParent();
+        }
+        return dropped;
+    }
+
+    /**
+     * Search contexts of parents are cached (JDISettings.cacheSearchContexts) per driver till the next navigation
+     * or page changing action. If cached context is stale elements are searched once more from the root.
+     * Missed context is searched once more only if it was taken from cache or frame was switched lazily.
+     * Missed frame or window means tracked frame is outdated: it is forgotten, missed frame is switched once more
+     */
     private List<WebElement> searchElements() {
-        SearchContext searchContext = containsRoot(getLocator())
+        try {
+            return searchElementsInContext();
+        } catch (NoSuchFrameException | NoSuchWindowException ex) {
+            frames().reset();
+            dropSearchContexts();
+            if (ex instanceof NoSuchWindowException || !trackFrames)
+                throw ex;
+            return searchElementsInContext();
+        } catch (StaleElementReferenceException | NoSuchElementException ex) {
+            if (!cacheSearchContexts && !trackFrames)
+                throw ex;
+            boolean fromCache = dropSearchContexts();
+            if (ex instanceof NoSuchElementException && !fromCache && !(trackFrames && hasFrameInContext()))
+                throw ex;
+            frames().reset();
+            return searchElementsInContext();
+        }
+    }
+
+    private List<WebElement> searchElementsInContext() {
+        ParsedLocator parsedLocator = parse(getLocator());
+        SearchContext searchContext = parsedLocator.hasRoot()
                 ? getDriver()
                 : getSearchContext(element.getParent());
-        By locator = containsRoot(getLocator())
-                ? trimRoot(getLocator())
-                : getLocator();
         if (frameLocator != null)
-            getDriver().switchTo().frame(getDriver().findElement(frameLocator));
-        return searchContext.findElements(correctXPaths(locator));
+            frames().toFrame(frameLocator);
+        frames().sync();
+        return searchContext.findElements(parsedLocator.searchBy());
     }
 
     public void clearCookies() {
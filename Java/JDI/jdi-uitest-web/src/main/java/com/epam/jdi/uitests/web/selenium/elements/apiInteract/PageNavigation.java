@@ -0,0 +1,60 @@
+package com.epam.jdi.uitests.web.selenium.elements.apiInteract;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+import com.epam.commons.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts navigations (open, refresh, back, forward) and page changing actions per driver<br>
+ * Anything resolved in browser before navigation (cached WebElements, search contexts) is outdated after it<br>
+ * Page version changes on every navigation and every action that can change page (click, input...).
+ * Element waits of the driver (Timer.wakeOn(driverName)) are woken up to check their condition at once
+ */
+public final class PageNavigation {
+    private PageNavigation() { }
+
+    private static final Map<String, AtomicLong> navigations = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    private static AtomicLong counter(Map<String, AtomicLong> counters, String driverName) {
+        return counters.computeIfAbsent(driverName, name -> new AtomicLong());
+    }
+
+    public static void navigated(String driverName) {
+        counter(navigations, driverName).incrementAndGet();
+        pageChanged(driverName);
+    }
+
+    public static void pageChanged(String driverName) {
+        counter(versions, driverName).incrementAndGet();
+        Timer.signal(driverName);
+    }
+
+    public static long navigationsCount(String driverName) {
+        return counter(navigations, driverName).get();
+    }
+
+    public static long pageVersion(String driverName) {
+        return counter(versions, driverName).get();
+    }
+}
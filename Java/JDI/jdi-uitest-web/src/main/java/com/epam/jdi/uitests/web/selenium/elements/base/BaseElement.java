@@ -29,6 +29,8 @@ import com.epam.jdi.uitests.web.selenium.elements.WebCascadeInit;
 import com.epam.jdi.uitests.web.selenium.elements.actions.ActionInvoker;
 import com.epam.jdi.uitests.web.selenium.elements.actions.ActionScenrios;
 import com.epam.jdi.uitests.web.selenium.elements.actions.ElementsActions;
+import com.epam.jdi.uitests.web.selenium.elements.actions.RetryPolicy;
+import com.epam.jdi.uitests.web.selenium.elements.apiInteract.DomWaiter;
 import com.epam.jdi.uitests.web.selenium.elements.apiInteract.GetElementModule;
 import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.GetElement;
 import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.WebAnnotationsUtil;
@@ -46,6 +48,7 @@ import static com.epam.commons.ReflectionUtils.*;
 import static com.epam.commons.StringUtils.namesEqual;
 import static com.epam.jdi.uitests.core.logger.LogLevels.INFO;
 import static com.epam.jdi.uitests.core.settings.JDISettings.*;
+import static com.epam.jdi.uitests.web.selenium.driver.ImplicitWait.setImplicitWait;
 import static com.epam.jdi.uitests.web.selenium.driver.WebDriverByUtils.getByLocator;
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -68,14 +71,38 @@ public abstract class BaseElement implements IBaseElement {
     public Functions function = Functions.NONE;
     public void setFunction(Functions function) { this.function = function; }
     public GetElementModule avatar;
+    /**
+     * @deprecated use invoker()
+     */
+    @Deprecated
     public ActionInvoker invoker = new ActionInvoker(this);
-    protected GetElement getElementClass = new GetElement(this);
-    protected ElementsActions actions = new ElementsActions(this);
+    protected GetElement getElementClass = lazyElements ? null : new GetElement(this);
+    protected ElementsActions actions = lazyElements ? null : new ElementsActions(this);
     private String name;
     private String varName;
     private String typeName;
     private Object parent;
 
+    public ActionInvoker invoker() {
+        return invoker;
+    }
+    /**
+     * GetElement and ElementsActions are created on first use if JDISettings.lazyElements is on.
+     * Elements themselves (and sections with all their fields) are still created when page object is initialized<br>
+     * Check-then-set is not synchronized on purpose: helpers are stateless wrappers of this element,
+     * so if two threads race, one extra instance is created and dropped, both behave the same
+     */
+    protected GetElement getElementClass() {
+        if (getElementClass == null)
+            getElementClass = new GetElement(this);
+        return getElementClass;
+    }
+    protected ElementsActions actions() {
+        if (actions == null)
+            actions = new ElementsActions(this);
+        return actions;
+    }
+
     public BaseElement() {
         this(By.id("EMPTY"));
     }
@@ -136,6 +163,14 @@ public abstract class BaseElement implements IBaseElement {
     protected Timer timer(int sec) {
         return avatar.timer(sec);
     }
+    /**
+     * Wait condition inside the browser (see DomWaiter)
+     * @return null if browser can't wait, then condition should be polled
+     */
+    protected Boolean waitInBrowser(String condition, Object... args) {
+        return DomWaiter.waitFor(getDriver(), condition,
+            RetryPolicy.remainingMSec(timeouts.getCurrentTimeoutSec() * 1000L), args);
+    }
     protected JavascriptExecutor jsExecutor() {
         return (JavascriptExecutor) getDriver();
     }
@@ -177,8 +212,8 @@ public abstract class BaseElement implements IBaseElement {
     }
 
     public void setWaitTimeout(int seconds) {
-        logger.debug("Set wait timeout to " + seconds);
-        getDriver().manage().timeouts().implicitlyWait(seconds, SECONDS);
+        logger.debug(() -> "Set wait timeout to " + seconds);
+        setImplicitWait(getDriver(), seconds, SECONDS);
         timeouts.setCurrentTimeoutSec(seconds);
     }
 
@@ -212,7 +247,7 @@ public abstract class BaseElement implements IBaseElement {
     public void setParent(Object parent) { this.parent = parent; }
 
     public void logAction(String actionName, LogLevels level) {
-        toLog(format(shortLogMessagesFormat
+        toLog(() -> format(shortLogMessagesFormat
                 ? "%s for %s"
                 : "Perform action '%s' with Element (%s)", actionName, this.toString()), level);
     }
@@ -58,7 +58,7 @@ public class Clickable extends Element implements IClickable {
 
     @Step("Click on {name}")
     private final void click(String name) {
-        actions.click(this::clickAction);
+        actions().click(this::clickAction);
     }
 
     public void clickByXY(int x, int y) {
@@ -67,7 +67,7 @@ public class Clickable extends Element implements IClickable {
 
     @Step("Click on {name} with coordinates (x,y) = ({x}, {y})")
     private void clickByXY(String name, int x, int y) {
-        invoker.doJAction(format("Click on Element(%s) with coordinates (x,y) = (%s, %s)",name, x, y),
+        invoker().doJAction(format("Click on Element(%s) with coordinates (x,y) = (%s, %s)",name, x, y),
                 () -> new Actions(getDriver())
                         .moveToElement(getWebElement(), x, y).click().build().perform());
     }
@@ -25,6 +25,8 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import io.qameta.allure.Step;
 
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.DomWaiter.TEXT_CONTAINS;
+
 /**
  * Button control implementation
  *
@@ -43,6 +45,9 @@ public class ClickableText extends Clickable implements IHasValue, IClickable, I
     }
 
     protected String getTextAction() {
+        ElementState state = ElementState.of(getDriver(), getWebElement());
+        if (state != null)
+            return state.getTextOrValue();
         String getText = getWebElement().getText();
         if (!getText.equals(""))
             return getText;
@@ -56,7 +61,7 @@ public class ClickableText extends Clickable implements IHasValue, IClickable, I
      * @return Get value of Element
      */
     public final String getValue() {
-        return actions.getValue(this::getTextAction);
+        return actions().getValue(this::getTextAction);
     }
 
     /**
@@ -64,7 +69,7 @@ public class ClickableText extends Clickable implements IHasValue, IClickable, I
      */
     @Step
     public final String getText() {
-        return actions.getText(this::getTextAction);
+        return actions().getText(this::getTextAction);
     }
 
     /**
@@ -73,7 +78,8 @@ public class ClickableText extends Clickable implements IHasValue, IClickable, I
      */
     @Step
     public final String waitText(String text) {
-        return actions.waitText(text, this::getTextAction);
+        return actions().waitText(text, this::getTextAction,
+            () -> waitInBrowser(TEXT_CONTAINS, getWebElement(), text));
     }
 
     /**
@@ -82,6 +88,6 @@ public class ClickableText extends Clickable implements IHasValue, IClickable, I
      */
     @Step
     public final String waitMatchText(String regEx) {
-        return actions.waitMatchText(regEx, this::getTextAction);
+        return actions().waitMatchText(regEx, this::getTextAction);
     }
 }
\ No newline at end of file
@@ -42,6 +42,8 @@ import static com.epam.commons.StringUtils.namesEqual;
 import static com.epam.jdi.uitests.core.logger.LogLevels.DEBUG;
 import static com.epam.jdi.uitests.core.settings.JDISettings.asserter;
 import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.DomWaiter.DISPLAYED;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.DomWaiter.VANISHED;
 import static java.lang.String.format;
 
 /**
@@ -86,6 +88,7 @@ public class Element extends BaseElement implements IElement, IHasElement {
 		}
 	}
 
+	@SuppressWarnings("unchecked")
 	public static <T extends Element> T copy(T element, By newLocator) {
 		try {
 			T result = newEntity((Class<T>) element.getClass());
@@ -100,7 +103,7 @@ public class Element extends BaseElement implements IElement, IHasElement {
 	 * Specified Selenium Element for this Element
 	 */
 	public WebElement getWebElement() {
-		return invoker.doJActionResult("Get web element",
+		return invoker().doJActionResult("Get web element",
 				() -> avatar.getElement(), DEBUG);
 	}
 
@@ -176,13 +179,13 @@ public class Element extends BaseElement implements IElement, IHasElement {
 
 	@Step("{elName} Remove attribute {attributeName}")
 	private void removeAttribute(String elName, String attributeName) {
-		invoker.doJAction(format("Remove Attribute '%s'", attributeName),
+		invoker().doJAction(format("Remove Attribute '%s'", attributeName),
 				() -> jsExecutor().executeScript("arguments[0].removeAttribute(arguments[1]);",getWebElement(), attributeName));
 	}
 
 	@Step("{elName} Set attribute {attributeName}={value}")
 	private void setAttribute(String elName, String attributeName, String value) {
-		invoker.doJAction(format("Set Attribute '%s'='%s'", attributeName, value),
+		invoker().doJAction(format("Set Attribute '%s'='%s'", attributeName, value),
 				() -> jsExecutor().executeScript(format("arguments[0].setAttribute('%s',arguments[1]);", attributeName),
 						getWebElement(), value));
 	}
@@ -191,12 +194,23 @@ public class Element extends BaseElement implements IElement, IHasElement {
 	protected boolean isDisplayedAction() {
 		return avatar.findImmediately(() -> {
 					WebElement webElement = getWebElement();
+					ElementState state = ElementState.of(getDriver(), webElement);
+					if (state != null)
+						return state.isDisplayed() && state.getSize().height > 0 && state.getSize().width > 0;
 					return webElement.isDisplayed() && webElement.getSize().height>0 && webElement.getSize().width > 0;
 				}
 				, false
 		);
 	}
 
+	/**
+	 * @return State of Element (displayed, enabled, selected, size, text, value) taken with one request
+	 * or null if driver can't execute scripts
+	 */
+	public ElementState getState() {
+		return ElementState.of(getDriver(), getWebElement());
+	}
+
 	/**
 	 * @return Check is Element visible
 	 */
@@ -206,7 +220,7 @@ public class Element extends BaseElement implements IElement, IHasElement {
 
 	@Step("{elName} - Is displayed")
 	private boolean isDisplayed(String elName) {
-		return actions.isDisplayed(this::isDisplayedAction);
+		return actions().isDisplayed(this::isDisplayedAction);
 	}
 
 	protected void waitDisplayedAction() {
@@ -217,7 +231,7 @@ public class Element extends BaseElement implements IElement, IHasElement {
 	 * @return Check is Element hidden
 	 */
 	public boolean isHidden() {
-		return actions.isDisplayed(() -> !isDisplayedAction());
+		return actions().isDisplayed(() -> !isDisplayedAction());
 	}
 
 	/**
@@ -229,7 +243,11 @@ public class Element extends BaseElement implements IElement, IHasElement {
 
 	@Step("{elName} - Wait displayed")
 	private void waitDisplayed(String elName) {
-		actions.waitDisplayed(getWebElement()::isDisplayed);
+		actions().waitDisplayed(() -> {
+			WebElement webElement = getWebElement();
+			Boolean displayed = waitInBrowser(DISPLAYED, webElement);
+			return displayed != null ? displayed : timer().wait(this::isDisplayedAction);
+		});
 	}
 
 	/**
@@ -241,7 +259,13 @@ public class Element extends BaseElement implements IElement, IHasElement {
 
 	@Step("{elName} - Waits while becomes invisible")
 	private void waitVanished(String elName) {
-		actions.waitVanished(() -> timer().wait(() -> !isDisplayedAction()));
+		actions().waitVanished(() -> {
+			WebElement webElement = avatar.findImmediately(this::getWebElement, null);
+			if (webElement == null)
+				return true;
+			Boolean vanished = waitInBrowser(VANISHED, webElement);
+			return vanished != null ? vanished : timer().wait(() -> !isDisplayedAction());
+		});
 	}
 
 	public WebElement getInvisibleElement() {
@@ -318,7 +342,7 @@ public class Element extends BaseElement implements IElement, IHasElement {
 	}
 
 	public void clickWithKeys(Keys... keys) {
-		invoker.doJAction("Ctrl click on Element",
+		invoker().doJAction("Ctrl click on Element",
 				() -> {
 					Actions action = new Actions(getDriver());
 					for (Keys key : keys)
@@ -336,7 +360,7 @@ public class Element extends BaseElement implements IElement, IHasElement {
 
 	@Step("Double click on {elName}")
 	private void doubleClicks(String elName) {
-		invoker.doJAction("Double click on Element", () -> {
+		invoker().doJAction("Double click on Element", () -> {
 			Actions builder = new Actions(getDriver());
 			builder.doubleClick(getWebElement()).perform();
 		});
@@ -348,7 +372,7 @@ public class Element extends BaseElement implements IElement, IHasElement {
 
 	@Step("Right click on {elName}")
 	private void rightClick(String elName) {
-		invoker.doJAction("Right click on Element", () -> {
+		invoker().doJAction("Right click on Element", () -> {
 			Actions builder = new Actions(getDriver());
 			builder.contextClick(getWebElement()).perform();
 		});
@@ -360,7 +384,7 @@ public class Element extends BaseElement implements IElement, IHasElement {
 
 	@Step("Click in Center of {elName}")
 	private void clickCenter(String elName) {
-		invoker.doJAction("Click in Center of Element", () -> {
+		invoker().doJAction("Click in Center of Element", () -> {
 			Actions builder = new Actions(getDriver());
 			builder.click(getWebElement()).perform();
 		});
@@ -372,7 +396,7 @@ public class Element extends BaseElement implements IElement, IHasElement {
 
 	@Step("Move mouse over {elName}")
 	private void mouseOver(String elName) {
-		invoker.doJAction("Move mouse over Element", () -> {
+		invoker().doJAction("Move mouse over Element", () -> {
 			Actions builder = new Actions(getDriver());
 			builder.moveToElement(getWebElement()).build().perform();
 		});
@@ -385,7 +409,7 @@ public class Element extends BaseElement implements IElement, IHasElement {
 
 	@Step("Focus on {elName}")
 	private void focus(String elName) {
-		invoker.doJAction("Focus on Element", () -> {
+		invoker().doJAction("Focus on Element", () -> {
 			Dimension size = getWebElement().getSize(); //for scroll to object
 			new Actions(getDriver()).moveToElement(getWebElement(), size.width / 2, size.height / 2).build().perform();
 		});
@@ -397,7 +421,7 @@ public class Element extends BaseElement implements IElement, IHasElement {
 
 	@Step("{elName} - Select area: from x={x1},y={y1};to x={x2},y={y2}")
 	private void selectArea(String elName, int x1, int y1, int x2, int y2) {
-		invoker.doJAction(format("Select area: from %d,%d;to %d,%d", x1, y1, x2, y2), () -> {
+		invoker().doJAction(format("Select area: from %d,%d;to %d,%d", x1, y1, x2, y2), () -> {
 			WebElement element = getWebElement();
 			new Actions(getDriver()).moveToElement(element, x1, y1).clickAndHold()
 					.moveToElement(element, x2, y2).release().build().perform();
@@ -410,7 +434,7 @@ public class Element extends BaseElement implements IElement, IHasElement {
 
 	@Step("Drag and drop {elName}: (x,y)=({x},{y})")
 	private void dragAndDropBy(String elName, int x, int y) {
-		invoker.doJAction(format("Drag and drop Element: (x,y)=(%s,%s)", x, y), () ->
+		invoker().doJAction(format("Drag and drop Element: (x,y)=(%s,%s)", x, y), () ->
 				new Actions(getDriver()).dragAndDropBy(getWebElement(), x, y).build().perform());
 	}
 
@@ -420,7 +444,7 @@ public class Element extends BaseElement implements IElement, IHasElement {
 
 	@Step("{elName} - Drag and drop to {tName}")
 	private void dragAndDrop(String elName, Element target, String tName) {
-		invoker.doJAction(format("Drag and drop to Target Element: %s", target.toString()), () ->
+		invoker().doJAction(format("Drag and drop to Target Element: %s", target.toString()), () ->
 				new Actions(getDriver()).dragAndDrop(getWebElement(), target.getWebElement()).build().perform());
 	}
 }
\ No newline at end of file
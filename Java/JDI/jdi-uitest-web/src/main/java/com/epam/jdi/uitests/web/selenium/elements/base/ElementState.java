@@ -0,0 +1,108 @@
+package com.epam.jdi.uitests.web.selenium.elements.base;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; 
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.ElementsFilter.SHOWN_FUNCTION;
+
+/**
+ * State of WebElement taken with one script call: displayed, enabled, selected, location and size,
+ * text, value and checked attribute<br>
+ * Values follow WebElement methods: text is empty for invisible element, checked is "true" or null
+ * like getAttribute("checked")
+ */
+public final class ElementState {
+    private static final String STATE_SCRIPT = SHOWN_FUNCTION
+        + "var el = arguments[0], rect = el.getBoundingClientRect(), displayed = shown(el);"
+        + "var type = (el.type || '').toLowerCase();"
+        + "var selected = el.tagName === 'OPTION' ? el.selected"
+        + "  : type === 'checkbox' || type === 'radio' ? el.checked : false;"
+        + "var text = displayed ? (el.innerText || '').replace(/\\u00a0/g, ' ').split('\\n')"
+        + "  .map(function(line) { return line.replace(/[ \\t\\r]+/g, ' ').trim(); }).join('\\n').trim() : '';"
+        + "return { displayed: displayed, enabled: !el.disabled, selected: !!selected,"
+        + "  x: Math.round(rect.left + window.pageXOffset), y: Math.round(rect.top + window.pageYOffset),"
+        + "  width: Math.round(rect.width), height: Math.round(rect.height), text: text,"
+        + "  value: typeof el.value === 'string' ? el.value : el.getAttribute('value'),"
+        + "  checked: (el.tagName === 'INPUT' ? el.checked : el.hasAttribute('checked')) ? 'true' : null };";
+
+    private final boolean displayed;
+    private final boolean enabled;
+    private final boolean selected;
+    private final Point location;
+    private final Dimension size;
+    private final String text;
+    private final String value;
+    private final String checked;
+
+    private ElementState(Map<?, ?> state) {
+        displayed = Boolean.TRUE.equals(state.get("displayed"));
+        enabled = Boolean.TRUE.equals(state.get("enabled"));
+        selected = Boolean.TRUE.equals(state.get("selected"));
+        location = new Point(toInt(state.get("x")), toInt(state.get("y")));
+        size = new Dimension(toInt(state.get("width")), toInt(state.get("height")));
+        text = state.get("text") == null ? "" : state.get("text").toString();
+        value = state.get("value") == null ? null : state.get("value").toString();
+        checked = state.get("checked") == null ? null : state.get("checked").toString();
+    }
+
+    private static int toInt(Object number) {
+        return number instanceof Number ? ((Number) number).intValue() : 0;
+    }
+
+    /**
+     * @return state of element or null if driver can't execute scripts
+     */
+    public static ElementState of(WebDriver driver, WebElement element) {
+        if (!(driver instanceof JavascriptExecutor))
+            return null;
+        Object state;
+        try {
+            state = ((JavascriptExecutor) driver).executeScript(STATE_SCRIPT, element);
+        } catch (StaleElementReferenceException ex) {
+            throw ex;
+        } catch (WebDriverException ex) {
+            return null;
+        }
+        return state instanceof Map ? new ElementState((Map<?, ?>) state) : null;
+    }
+
+    public boolean isDisplayed() { return displayed; }
+    public boolean isEnabled() { return enabled; }
+    public boolean isSelected() { return selected; }
+    public Point getLocation() { return location; }
+    public Dimension getSize() { return size; }
+    public String getText() { return text; }
+    public String getValue() { return value; }
+    public String getChecked() { return checked; }
+    /**
+     * @return text or value if text is empty
+     */
+    public String getTextOrValue() {
+        return text.equals("") && value != null ? value : text;
+    }
+}
@@ -64,7 +64,7 @@ public class J extends Element implements SelenideElement {
     }
 
     public J append(String text) {
-        invoker.doJAction("Append text to Element", () -> {
+        invoker().doJAction("Append text to Element", () -> {
             Actions builder = new Actions(getDriver());
             builder.sendKeys(getWebElement(), text).perform();
         });
@@ -77,7 +77,7 @@ public class J extends Element implements SelenideElement {
     }
 
     public J pressEnter() {
-        invoker.doJAction("Press Enter on Element", () -> {
+        invoker().doJAction("Press Enter on Element", () -> {
             Actions builder = new Actions(getDriver());
             builder.sendKeys(getWebElement(), Keys.ENTER).perform();
         });
@@ -86,7 +86,7 @@ public class J extends Element implements SelenideElement {
 
     
     public J pressTab() {
-        invoker.doJAction("Press Tab on Element", () -> {
+        invoker().doJAction("Press Tab on Element", () -> {
             Actions builder = new Actions(getDriver());
             builder.sendKeys(getWebElement(), Keys.TAB).perform();
         });
@@ -95,7 +95,7 @@ public class J extends Element implements SelenideElement {
 
     
     public SelenideElement pressEscape() {
-        invoker.doJAction("Press Escape on Element", () -> {
+        invoker().doJAction("Press Escape on Element", () -> {
             Actions builder = new Actions(getDriver());
             builder.sendKeys(getWebElement(), Keys.ESCAPE).perform();
         });
@@ -179,7 +179,7 @@ public class J extends Element implements SelenideElement {
 
     
     public J selectRadio(String value) {
-        invoker.doJAction("Select Radio Button with [" + value + "] value", () -> {
+        invoker().doJAction("Select Radio Button with [" + value + "] value", () -> {
             WebElement radio = get(By.xpath(".//input[@type='radio'][@value=" + value + "]"));
             if (radio.getAttribute("readonly") != null)
                 throw new InvalidElementStateException("Cannot select readonly radio button");
@@ -216,7 +216,7 @@ public class J extends Element implements SelenideElement {
 
     
     public J setSelected(boolean selected) {
-        invoker.doJAction("Set selected state of Element to [" + selected + "]", () -> {
+        invoker().doJAction("Set selected state of Element to [" + selected + "]", () -> {
             WebElement checkbox = getWebElement();
             if (checkbox.isSelected() ^ selected) {
                 if (checkbox.getAttribute("readonly") != null)
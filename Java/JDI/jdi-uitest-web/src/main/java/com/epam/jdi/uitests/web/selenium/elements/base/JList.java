@@ -63,7 +63,7 @@ public class JList extends Element implements SelenideElement {
     }
 
     public JList append(String text) {
-        invoker.doJAction("Append text to Element", () -> {
+        invoker().doJAction("Append text to Element", () -> {
             Actions builder = new Actions(getDriver());
             builder.sendKeys(getWebElement(), text).perform();
         });
@@ -76,7 +76,7 @@ public class JList extends Element implements SelenideElement {
     }
 
     public JList pressEnter() {
-        invoker.doJAction("Press Enter on Element", () -> {
+        invoker().doJAction("Press Enter on Element", () -> {
             Actions builder = new Actions(getDriver());
             builder.sendKeys(getWebElement(), Keys.ENTER).perform();
         });
@@ -85,7 +85,7 @@ public class JList extends Element implements SelenideElement {
 
     
     public JList pressTab() {
-        invoker.doJAction("Press Tab on Element", () -> {
+        invoker().doJAction("Press Tab on Element", () -> {
             Actions builder = new Actions(getDriver());
             builder.sendKeys(getWebElement(), Keys.TAB).perform();
         });
@@ -94,7 +94,7 @@ public class JList extends Element implements SelenideElement {
 
     
     public SelenideElement pressEscape() {
-        invoker.doJAction("Press Escape on Element", () -> {
+        invoker().doJAction("Press Escape on Element", () -> {
             Actions builder = new Actions(getDriver());
             builder.sendKeys(getWebElement(), Keys.ESCAPE).perform();
         });
@@ -178,7 +178,7 @@ public class JList extends Element implements SelenideElement {
 
     
     public JList selectRadio(String value) {
-        invoker.doJAction("Select Radio Button with [" + value + "] value", () -> {
+        invoker().doJAction("Select Radio Button with [" + value + "] value", () -> {
             WebElement radio = get(By.xpath(".//input[@type='radio'][@value=" + value + "]"));
             if (radio.getAttribute("readonly") != null)
                 throw new InvalidElementStateException("Cannot select readonly radio button");
@@ -215,7 +215,7 @@ public class JList extends Element implements SelenideElement {
 
     
     public JList setSelected(boolean selected) {
-        invoker.doJAction("Set selected state of Element to [" + selected + "]", () -> {
+        invoker().doJAction("Set selected state of Element to [" + selected + "]", () -> {
             WebElement checkbox = getWebElement();
             if (checkbox.isSelected() ^ selected) {
                 if (checkbox.getAttribute("readonly") != null)
@@ -63,6 +63,6 @@ public class SelectElement extends ClickableText implements ISelect {
 
     @Step("Is {elName} selected")
     private boolean isSelected(String elName) {
-        return actions.isSelected(this::isSelectedAction);
+        return actions().isSelected(this::isSelectedAction);
     }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ package com.epam.jdi.uitests.web.selenium.elements.common;
 
 import com.epam.jdi.uitests.core.interfaces.common.ICheckBox;
 import com.epam.jdi.uitests.web.selenium.elements.base.Clickable;
+import com.epam.jdi.uitests.web.selenium.elements.base.ElementState;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import io.qameta.allure.Step;
@@ -94,7 +95,11 @@ public class CheckBox extends Clickable implements ICheckBox {
     }
 
     protected boolean isCheckedAction() {
-        return isCheckedFunc.apply(getWebElement());
+        WebElement element = getWebElement();
+        ElementState state = ElementState.of(getDriver(), element);
+        if (state != null)
+            return state.isSelected() || state.getChecked() != null;
+        return isCheckedFunc.apply(element);
     }
 
     /**
@@ -106,7 +111,7 @@ public class CheckBox extends Clickable implements ICheckBox {
 
     @Step("Check {name}")
     private final void check(String name) {
-        actions.check(this::checkAction);
+        actions().check(this::checkAction);
     }
 
     /**
@@ -118,7 +123,7 @@ public class CheckBox extends Clickable implements ICheckBox {
 
     @Step("Uncheck {name}")
     private final void uncheck(String name) {
-        actions.uncheck(this::uncheckAction);
+        actions().uncheck(this::uncheckAction);
     }
 
     /**
@@ -130,14 +135,14 @@ public class CheckBox extends Clickable implements ICheckBox {
 
     @Step("Is {name} checked")
     private final boolean isChecked(String name) {
-        return actions.isChecked(this::isCheckedAction);
+        return actions().isChecked(this::isCheckedAction);
     }
 
     /**
      * @return Get value of Element
      */
     public final String getValue() {
-        return actions.getValue(this::getValueAction);
+        return actions().getValue(this::getValueAction);
     }
 
     /**
@@ -145,7 +150,7 @@ public class CheckBox extends Clickable implements ICheckBox {
      *              Set value to Element
      */
     public final void setValue(String value) {
-        actions.setValue(value, this::setValueAction);
+        actions().setValue(value, this::setValueAction);
     }
 
     protected String getTextAction() {
@@ -160,7 +165,7 @@ public class CheckBox extends Clickable implements ICheckBox {
 
     @Step("{elName} - get text")
     private final String getText(String elName) {
-        return actions.getText(this::getTextAction);
+        return actions().getText(this::getTextAction);
     }
 
     /**
@@ -174,7 +179,7 @@ public class CheckBox extends Clickable implements ICheckBox {
 
     @Step("{elName} - wait text {text}")
     private final String waitText(String elName, String text) {
-        return actions.waitText(text, this::getTextAction);
+        return actions().waitText(text, this::getTextAction);
     }
 
     /**
@@ -187,6 +192,6 @@ public class CheckBox extends Clickable implements ICheckBox {
 
     @Step("{elName} - wait match text {regEx}")
     private final String waitMatchText(String elName, String regEx) {
-        return actions.waitMatchText(regEx, this::getTextAction);
+        return actions().waitMatchText(regEx, this::getTextAction);
     }
 }
\ No newline at end of file
@@ -50,7 +50,7 @@ public class Image extends Clickable implements IImage {
 
     @Step("Get image source for {elName}")
     private String getSource(String elName) {
-        return invoker.doJActionResult("Get image source for Element " + this,
+        return invoker().doJActionResult("Get image source for Element " + this,
                 () -> getWebElement().getAttribute("src"));
     }
 
@@ -63,7 +63,7 @@ public class Image extends Clickable implements IImage {
 
     @Step("Get image title for {elName}")
     private String getAlt(String elName) {
-        return invoker.doJActionResult("Get image title for Element " + this,
+        return invoker().doJActionResult("Get image title for Element " + this,
                 () -> getWebElement().getAttribute("alt"));
     }
 
@@ -28,6 +28,7 @@ import java.net.URL;
 
 import static com.epam.commons.Timer.getByCondition;
 import static com.epam.commons.TryCatchUtil.tryGetResult;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.PageNavigation.navigated;
 import static java.lang.String.format;
 
 /**
@@ -47,6 +48,21 @@ public class Link extends ClickableText implements ILink {
         super(webElement);
     }
 
+    /**
+     * Link click can open other page: WebElements and frames resolved before it are outdated
+     */
+    @Override
+    protected void clickAction() {
+        super.clickAction();
+        navigated(getAvatar().getDriverName());
+    }
+
+    @Override
+    protected void clickJSAction() {
+        super.clickJSAction();
+        navigated(getAvatar().getDriverName());
+    }
+
     protected String getReferenceAction() {
         return getWebElement().getAttribute("href");
     }
@@ -65,7 +81,7 @@ public class Link extends ClickableText implements ILink {
 
     @Step("Get href of link {elName}")
     private final String getReference(String elName) {
-        return invoker.doJActionResult("Get link reference", this::getReferenceAction, href -> "Get href of link '" + href + "'");
+        return invoker().doJActionResult("Get link reference", this::getReferenceAction, href -> "Get href of link '" + href + "'");
     }
 
     /**
@@ -78,7 +94,7 @@ public class Link extends ClickableText implements ILink {
 
     @Step("{elName} - wait link contains {text}")
     private String waitReferenceContains(String elName, String text) {
-        return invoker.doJActionResult(format("Wait link contains '%s'", text),
+        return invoker().doJActionResult(format("Wait link contains '%s'", text),
                 () -> getByCondition(this::getReferenceAction, t -> t.contains(text)));
     }
 
@@ -92,7 +108,7 @@ public class Link extends ClickableText implements ILink {
 
     @Step("{elName} - wait link match regex {regEx}")
     private String waitMatchReference(String elName, String regEx) {
-        return invoker.doJActionResult(format("Wait link match regex '%s'", regEx),
+        return invoker().doJActionResult(format("Wait link match regex '%s'", regEx),
                 () -> getByCondition(this::getReferenceAction, t -> t.matches(regEx)));
     }
 
@@ -109,6 +125,6 @@ public class Link extends ClickableText implements ILink {
 
     @Step("{elName} - get link tooltip")
     private final String getTooltip(String elName) {
-        return invoker.doJActionResult("Get link tooltip", this::getTooltipAction, href -> "Get link tooltip '" + href + "'");
+        return invoker().doJActionResult("Get link tooltip", this::getTooltipAction, href -> "Get link tooltip '" + href + "'");
     }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ package com.epam.jdi.uitests.web.selenium.elements.common;
 
 import com.epam.jdi.uitests.core.interfaces.common.IText;
 import com.epam.jdi.uitests.web.selenium.elements.base.Element;
+import com.epam.jdi.uitests.web.selenium.elements.base.ElementState;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
@@ -41,6 +42,11 @@ public class Text extends Element implements IText {
 
 	protected String getTextAction() {
 		WebElement element = getWebElement();
+		ElementState state = ElementState.of(getDriver(), element);
+		if (state != null)
+			return state.getValue() != null && !state.getValue().equals("")
+				? state.getValue()
+				: state.getText();
 		String getValue = element.getAttribute("value");
 		if (getValue != null && !getValue.equals(""))
 			return getValue;
@@ -63,7 +69,7 @@ public class Text extends Element implements IText {
 
 	@Step("{elName} get value")
 	private String getValue(String elName) {
-		return actions.getValue(this::getValueAction);
+		return actions().getValue(this::getValueAction);
 	}
 
 	/**
@@ -75,7 +81,7 @@ public class Text extends Element implements IText {
 
 	@Step("{elName} get text")
 	private String getText(String elName) {
-		return actions.getText(this::getTextAction);
+		return actions().getText(this::getTextAction);
 	}
 
 	/**
@@ -87,7 +93,7 @@ public class Text extends Element implements IText {
 	}
 
 	private String waitText(String elName, String text) {
-		return actions.waitText(text, this::getTextAction);
+		return actions().waitText(text, this::getTextAction);
 	}
 
 	/**
@@ -100,6 +106,6 @@ public class Text extends Element implements IText {
 
 	@Step("{elName} wait match text {regEx}")
 	private String waitMatchText(String elName, String regEx) {
-		return actions.waitMatchText(regEx, this::getTextAction);
+		return actions().waitMatchText(regEx, this::getTextAction);
 	}
 }
\ No newline at end of file
@@ -51,7 +51,7 @@ public class TextArea extends TextField implements ITextArea {
     }
     @Step("{elName} - input lines {textLines}")
     private void inputLines(String elName, String... textLines) {
-        actions.inputLines(this::clearAction, this::inputAction, textLines);
+        actions().inputLines(this::clearAction, this::inputAction, textLines);
     }
 
     /**
@@ -64,7 +64,7 @@ public class TextArea extends TextField implements ITextArea {
 
     @Step("{elName} - add new line {textLine}")
     private void addNewLine(String elName, String textLine) {
-        actions.addNewLine(textLine, this::inputAction);
+        actions().addNewLine(textLine, this::inputAction);
     }
 
     /**
@@ -75,6 +75,6 @@ public class TextArea extends TextField implements ITextArea {
     }
     @Step("{elName} - get lines")
     private String[] getLines(String elName) {
-        return actions.getLines(this::getTextAction);
+        return actions().getLines(this::getTextAction);
     }
 }
\ No newline at end of file
@@ -76,7 +76,7 @@ public class TextField extends Text implements ITextField {
      *              Set value to Element
      */
     public final void setValue(String value) {
-        actions.setValue(value, this::setValueAction);
+        actions().setValue(value, this::setValueAction);
     }
 
     /**
@@ -89,7 +89,7 @@ public class TextField extends Text implements ITextField {
 
     @Step("{name} input {text}")
     private void input(String name,CharSequence text) {
-        actions.input(text, this::inputAction);
+        actions().input(text, this::inputAction);
     }
 
     /**
@@ -114,7 +114,7 @@ public class TextField extends Text implements ITextField {
     }
     @Step("{elName} - clear")
     private void clear(String elName) {
-        actions.clear(this::clearAction);
+        actions().clear(this::clearAction);
     }
 
     /**
@@ -125,7 +125,7 @@ public class TextField extends Text implements ITextField {
     }
     @Step("Focus on {elName}")
     private void focus(String elName) {
-        actions.focus(this::focusAction);
+        actions().focus(this::focusAction);
     }
 
 }
\ No newline at end of file
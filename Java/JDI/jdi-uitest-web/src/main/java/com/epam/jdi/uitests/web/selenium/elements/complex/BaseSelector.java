@@ -25,6 +25,7 @@ import com.epam.jdi.uitests.web.selenium.elements.apiInteract.GetElementModule;
 import com.epam.jdi.uitests.web.selenium.elements.base.BaseElement;
 import com.epam.jdi.uitests.web.selenium.elements.base.Clickable;
 import com.epam.jdi.uitests.web.selenium.elements.base.Element;
+import com.epam.jdi.uitests.web.selenium.elements.base.ElementState;
 import com.epam.jdi.uitests.web.selenium.elements.base.IHasElement;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
@@ -191,6 +192,11 @@ abstract class BaseSelector<TEnum extends Enum> extends BaseElement implements I
 	protected abstract boolean isSelectedAction(int num);
 
 	protected boolean isSelectedAction(WebElement el) {
+		ElementState state = ElementState.of(getDriver(), el);
+		if (state != null)
+			return isSelector
+				? state.isSelected()
+				: "true".equals(state.getChecked());
 		if (isSelector)
 			return el.isSelected();
 		String attr = el.getAttribute("checked");
@@ -202,7 +208,7 @@ abstract class BaseSelector<TEnum extends Enum> extends BaseElement implements I
 	 *             Wait while option (from text) is selected. Return false if this not happens
 	 */
 	public final void waitSelected(String name) {
-		actions.isSelected(name, n -> waitCondition(() -> isSelectedAction(n)));
+		actions().isSelected(name, n -> waitCondition(() -> isSelectedAction(n)));
 	}
 
 	/**
@@ -218,7 +224,7 @@ abstract class BaseSelector<TEnum extends Enum> extends BaseElement implements I
 	 * @return Is option selected?
 	 */
 	public final boolean isSelected(String name) {
-		return actions.isSelected(name, this::isSelectedAction);
+		return actions().isSelected(name, this::isSelectedAction);
 	}
 
 	/**
@@ -243,7 +249,7 @@ abstract class BaseSelector<TEnum extends Enum> extends BaseElement implements I
 	 * @return Get value of Element
 	 */
 	public final String getValue() {
-		return actions.getValue(this::getValueAction);
+		return actions().getValue(this::getValueAction);
 	}
 
 	/**
@@ -251,7 +257,7 @@ abstract class BaseSelector<TEnum extends Enum> extends BaseElement implements I
 	 *              Set value to Element
 	 */
 	public final void setValue(String value) {
-		actions.setValue(value, this::setValueAction);
+		actions().setValue(value, this::setValueAction);
 	}
 
 	/**
@@ -350,39 +356,39 @@ abstract class BaseSelector<TEnum extends Enum> extends BaseElement implements I
 	 * @return Check is Element visible
 	 */
 	public boolean isDisplayed() {
-		return actions.isDisplayed(this::isDisplayedAction);
+		return actions().isDisplayed(this::isDisplayedAction);
 	}
 
 	public boolean isDisplayed(String name) {
-		return actions.isDisplayed(() -> isDisplayedAction(name));
+		return actions().isDisplayed(() -> isDisplayedAction(name));
 	}
 
 	public boolean isDisplayed(TEnum name) {
-		return actions.isDisplayed(() -> isDisplayedAction(name));
+		return actions().isDisplayed(() -> isDisplayedAction(name));
 	}
 
 	public boolean isDisplayed(int num) {
-		return actions.isDisplayed(() -> isDisplayedAction(num));
+		return actions().isDisplayed(() -> isDisplayedAction(num));
 	}
 
 	/**
 	 * @return Check is Element hidden
 	 */
 	public boolean isHidden() {
-		return actions.isDisplayed(() -> !isDisplayedAction());
+		return actions().isDisplayed(() -> !isDisplayedAction());
 	}
 
 	/**
 	 * Waits while Element becomes visible
 	 */
 	public void waitDisplayed() {
-		actions.waitDisplayed(this::waitDisplayedAction);
+		actions().waitDisplayed(this::waitDisplayedAction);
 	}
 
 	/**
 	 * Waits while Element becomes invisible
 	 */
 	public void waitVanished() {
-		actions.waitVanished(() -> timer().wait(() -> !isDisplayedAction()));
+		actions().waitVanished(() -> timer().wait(() -> !isDisplayedAction()));
 	}
 }
\ No newline at end of file
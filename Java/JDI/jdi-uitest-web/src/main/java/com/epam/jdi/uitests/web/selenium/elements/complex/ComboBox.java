@@ -105,7 +105,7 @@ public class ComboBox<TEnum extends Enum> extends Dropdown<TEnum> implements ICo
 
     @Step("{name} input {text}")
     private void input(String name, CharSequence text) {
-        actions.input(text, this::inputAction);
+        actions().input(text, this::inputAction);
     }
 
     /**
@@ -139,14 +139,14 @@ public class ComboBox<TEnum extends Enum> extends Dropdown<TEnum> implements ICo
 
     @Step("{name} clear")
     private void clear(String name) {
-        actions.clear(this::clearAction);
+        actions().clear(this::clearAction);
     }
 
     /**
      * Focus(click) on textfield
      */
     public final void focus() {
-        actions.focus(this::focusAction);
+        actions().focus(this::focusAction);
     }
 
     public void removeAttribute(String attributeName) {
@@ -155,7 +155,7 @@ public class ComboBox<TEnum extends Enum> extends Dropdown<TEnum> implements ICo
 
     @Step("{elName} Remove attribute {attributeName}")
     private void removeAttribute(String elName, String attributeName) {
-        invoker.doJAction(format("Remove Attribute '%s'", attributeName),
+        invoker().doJAction(format("Remove Attribute '%s'", attributeName),
                 () -> jsExecutor().executeScript("arguments[0].removeAttribute(arguments[1]);",getWebElement(), attributeName));
     }
 
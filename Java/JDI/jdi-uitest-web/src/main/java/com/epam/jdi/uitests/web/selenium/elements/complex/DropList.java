@@ -21,6 +21,7 @@ package com.epam.jdi.uitests.web.selenium.elements.complex;
 import com.epam.jdi.uitests.core.interfaces.complex.IDropList;
 import com.epam.jdi.uitests.web.selenium.elements.GetElementType;
 import com.epam.jdi.uitests.web.selenium.elements.base.Clickable;
+import com.epam.jdi.uitests.web.selenium.elements.base.ElementState;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import io.qameta.allure.Step;
@@ -104,6 +105,9 @@ public class DropList<TEnum extends Enum> extends MultiSelector<TEnum> implement
     }
 
     protected String getTextAction() {
+        ElementState state = ElementState.of(getDriver(), getWebElement());
+        if (state != null)
+            return state.getTextOrValue();
         String getValue = getWebElement().getAttribute("value");
         String getText = getWebElement().getText();
         return getText.equals("") && getValue != null ? getValue : getText;
@@ -160,7 +164,7 @@ public class DropList<TEnum extends Enum> extends MultiSelector<TEnum> implement
 
     @Step("{elName} - Get text")
     private String getText(String elName) {
-        return actions.getText(this::getTextAction);
+        return actions().getText(this::getTextAction);
     }
 
     /**
@@ -173,7 +177,7 @@ public class DropList<TEnum extends Enum> extends MultiSelector<TEnum> implement
 
     @Step("{elName} - Wait while text contains {text}")
     private String waitText(String elName, String text) {
-        return actions.waitText(text, this::getTextAction);
+        return actions().waitText(text, this::getTextAction);
     }
 
     /**
@@ -186,7 +190,7 @@ public class DropList<TEnum extends Enum> extends MultiSelector<TEnum> implement
 
     @Step("{elName} - Wait while text matches {regEx}")
     private String waitMatchText(String elName, String regEx) {
-        return actions.waitMatchText(regEx, this::getTextAction);
+        return actions().waitMatchText(regEx, this::getTextAction);
     }
 
     public WebElement getWebElement() {
@@ -218,7 +222,7 @@ public class DropList<TEnum extends Enum> extends MultiSelector<TEnum> implement
 
     @Step("{elName} Remove attribute {attributeName}")
     private void removeAttribute(String elName, String attributeName) {
-        invoker.doJAction(format("Remove Attribute '%s'", attributeName),
+        invoker().doJAction(format("Remove Attribute '%s'", attributeName),
                 () -> jsExecutor().executeScript("arguments[0].removeAttribute(arguments[1]);",getWebElement(), attributeName));
     }
     @Override
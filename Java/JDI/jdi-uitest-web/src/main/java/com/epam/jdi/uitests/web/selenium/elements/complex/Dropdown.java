@@ -246,7 +246,7 @@ public class Dropdown<TEnum extends Enum> extends Selector<TEnum> implements IDr
 	 * Expanding DropDown
 	 */
 	public final void expand() {
-		actions.expand(() -> expandAction(1));
+		actions().expand(() -> expandAction(1));
 	}
 
 	public final void expand(String name) {
@@ -255,7 +255,7 @@ public class Dropdown<TEnum extends Enum> extends Selector<TEnum> implements IDr
 
 	@Step("{elName} expand {name}")
 	private void expand(String elName, String name) {
-		actions.expand(() -> expandAction(name));
+		actions().expand(() -> expandAction(name));
 	}
 
 	public final void expand(int index) {
@@ -264,7 +264,7 @@ public class Dropdown<TEnum extends Enum> extends Selector<TEnum> implements IDr
 
 	@Step("{elName} expand {index}")
 	private void expand(String elName, int index) {
-		actions.expand(() -> expandAction(index));
+		actions().expand(() -> expandAction(index));
 	}
 
 	/**
@@ -288,7 +288,7 @@ public class Dropdown<TEnum extends Enum> extends Selector<TEnum> implements IDr
 
 	@Step("Click on {name}")
 	private void click(String name) {
-		actions.click(this::clickAction);
+		actions().click(this::clickAction);
 	}
 
 	/**
@@ -300,7 +300,7 @@ public class Dropdown<TEnum extends Enum> extends Selector<TEnum> implements IDr
 
 	@Step("{elName} - get text")
 	private String getText(String elName) {
-		return actions.getText(this::getTextAction);
+		return actions().getText(this::getTextAction);
 	}
 
 	/**
@@ -313,7 +313,7 @@ public class Dropdown<TEnum extends Enum> extends Selector<TEnum> implements IDr
 
 	@Step("{elName} - wait text {text}")
 	private String waitText(String elName, String text) {
-		return actions.waitText(text, this::getTextAction);
+		return actions().waitText(text, this::getTextAction);
 	}
 
 	/**
@@ -326,7 +326,7 @@ public class Dropdown<TEnum extends Enum> extends Selector<TEnum> implements IDr
 
 	@Step("{elName} - wait match text {regEx}")
 	private String waitMatchText(String elName, String regEx) {
-		return actions.waitMatchText(regEx, this::getTextAction);
+		return actions().waitMatchText(regEx, this::getTextAction);
 	}
 
 	/**
@@ -376,7 +376,7 @@ public class Dropdown<TEnum extends Enum> extends Selector<TEnum> implements IDr
 
 	@Step("{elName} Remove attribute {attributeName}")
 	private void removeAttribute(String elName, String attributeName) {
-		invoker.doJAction(format("Remove Attribute '%s'", attributeName),
+		invoker().doJAction(format("Remove Attribute '%s'", attributeName),
 				() -> jsExecutor().executeScript("arguments[0].removeAttribute(arguments[1]);",getWebElement(), attributeName));
 	}
 }
\ No newline at end of file
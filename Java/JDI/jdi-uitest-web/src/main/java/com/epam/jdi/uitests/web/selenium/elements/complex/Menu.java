@@ -77,7 +77,7 @@ public class Menu<TEnum extends Enum> extends Selector<TEnum> implements IMenu<T
     public final void hover(String... names) {
         if (names == null || names.length == 0)
             return;
-        actions.hover(print(names, separator), n ->
+        actions().hover(print(names, separator), n ->
             hoverAction(SplitToList(names)));
     }
 
@@ -105,7 +105,7 @@ public class Menu<TEnum extends Enum> extends Selector<TEnum> implements IMenu<T
     public final void hover(TEnum name) {
         hover(getEnumValue(name));
     }
-    public final void hoverAndClick(String... names) { actions.select(print(names, separator), this::hoverAndClickAction); }
+    public final void hoverAndClick(String... names) { actions().select(print(names, separator), this::hoverAndClickAction); }
     public final void hoverAndClick(TEnum name) {
         hoverAndClick(getEnumValue(name));
     }
@@ -155,7 +155,7 @@ public abstract class MultiSelector<TEnum extends Enum> extends BaseSelector<TEn
 
     @Step("{elName} - Select options with name {names}")
     private void select(String elName, String... names) {
-        actions.select(this::selectListAction, names);
+        actions().select(this::selectListAction, names);
     }
 
     /**
@@ -176,7 +176,7 @@ public abstract class MultiSelector<TEnum extends Enum> extends BaseSelector<TEn
 
     @Step("{elName} - Select options use index {nums}")
     private void select(String elName, int... nums) {
-        actions.select(this::selectListAction, nums);
+        actions().select(this::selectListAction, nums);
     }
 
     /**
@@ -271,7 +271,7 @@ public abstract class MultiSelector<TEnum extends Enum> extends BaseSelector<TEn
 
     @Step("{elName} - Get names of checked options")
     private List<String> areSelected(String elName) {
-        return actions.areSelected(this::getNames, this::isSelectedAction);
+        return actions().areSelected(this::getNames, this::isSelectedAction);
     }
 
     /**
@@ -292,7 +292,7 @@ public abstract class MultiSelector<TEnum extends Enum> extends BaseSelector<TEn
 
     @Step("{elName} - Wait while all options with names {names}")
     private void waitSelected(String elName, String... names) {
-        actions.waitSelected(n -> timer().wait(() -> isSelectedAction(n)), names);
+        actions().waitSelected(n -> timer().wait(() -> isSelectedAction(n)), names);
     }
 
     /**
@@ -304,7 +304,7 @@ public abstract class MultiSelector<TEnum extends Enum> extends BaseSelector<TEn
 
     @Step("{elName} - Get names of unchecked options")
     private List<String> areDeselected(String elName) {
-        return actions.areDeselected(this::getNames, n -> timer().wait(() -> isSelectedAction(n)));
+        return actions().areDeselected(this::getNames, n -> timer().wait(() -> isSelectedAction(n)));
     }
 
     /**
@@ -325,7 +325,7 @@ public abstract class MultiSelector<TEnum extends Enum> extends BaseSelector<TEn
 
     @Step("{elName} - Wait while all options with names {names}")
     private void waitDeselected(String elName, String... names) {
-        actions.waitDeselected(n -> timer().wait(() -> isSelectedAction(n)), names);
+        actions().waitDeselected(n -> timer().wait(() -> isSelectedAction(n)), names);
     }
 
     /**
@@ -337,7 +337,7 @@ public abstract class MultiSelector<TEnum extends Enum> extends BaseSelector<TEn
 
     @Step("{elName} - Clear Options")
     private void clear(String elName) {
-        invoker.doJAction("Clear Options", this::clearAction);
+        invoker().doJAction("Clear Options", this::clearAction);
     }
 
     /**
@@ -58,7 +58,7 @@ public class Selector<TEnum extends Enum> extends BaseSelector<TEnum> implements
 
 	@Step("{elName} - Select {name}")
 	private final void select(String elName, String name) {
-		actions.select(name, this::selectAction);
+		actions().select(name, this::selectAction);
 	}
 
 	/**
@@ -79,7 +79,7 @@ public class Selector<TEnum extends Enum> extends BaseSelector<TEnum> implements
 
 	@Step("{elName} - Select {num}")
 	private final void select(String elName, int num) {
-		actions.select(num, this::selectAction);
+		actions().select(num, this::selectAction);
 	}
 
 	/**
@@ -91,7 +91,7 @@ public class Selector<TEnum extends Enum> extends BaseSelector<TEnum> implements
 
 	@Step("{elName} - Get name of the selected Element")
 	private String getSelected(String elName) {
-		return actions.getSelected(this::getSelectedAction);
+		return actions().getSelected(this::getSelectedAction);
 	}
 
 	/**
@@ -103,7 +103,7 @@ public class Selector<TEnum extends Enum> extends BaseSelector<TEnum> implements
 
 	@Step("{elName} - Get index of the selected Element")
 	private int getSelectedIndex(String elName) {
-		return actions.getSelectedIndex(this::getSelectedIndexAction);
+		return actions().getSelectedIndex(this::getSelectedIndexAction);
 	}
 
 	protected final boolean isSelectedAction(String name) {
@@ -126,7 +126,7 @@ public class Selector<TEnum extends Enum> extends BaseSelector<TEnum> implements
 		WebElement element = first(els, this::isSelectedAction);
 		if (element == null)
 			throw exception("No elements selected. Override getSelectedAction or place locator to <select> tag");
-		new Element(element).invoker.processDemoMode();
+		new Element(element).invoker().processDemoMode();
 		return element.getText();
 	}
 
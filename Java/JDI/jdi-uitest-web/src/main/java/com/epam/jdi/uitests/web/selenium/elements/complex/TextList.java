@@ -33,6 +33,7 @@ import static com.epam.commons.LinqUtils.*;
 import static com.epam.commons.PrintUtils.print;
 import static com.epam.jdi.uitests.core.logger.LogLevels.DEBUG;
 import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.DomWaiter.ALL_VANISHED;
 import static java.lang.String.format;
 
 /**
@@ -47,20 +48,24 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
     }
 
     public List<WebElement> getWebElements() {
-        return invoker.doJActionResult("Get web elements " + this.toString(), avatar::getElements,
+        return invoker().doJActionResult("Get web elements " + this.toString(), avatar::getElements,
                 els -> format("Got %s Element(s)", els.size()), DEBUG);
     }
 
     public boolean waitVanishedAction() {
-        return avatar.findImmediately(() ->
-                timer().wait(() -> {
-                    List<WebElement> elements = getWebElements();
-                    if (elements == null || elements.size() == 0)
-                        return true;
-                    for (WebElement el : getWebElements())
-                        if (el.isDisplayed()) return false;
-                    return true;
-                }), false);
+        return avatar.findImmediately(() -> {
+            List<WebElement> elements = getWebElements();
+            if (elements == null || elements.size() == 0)
+                return true;
+            Boolean vanished = waitInBrowser(ALL_VANISHED, elements);
+            if (vanished != null)
+                return vanished;
+            return timer().wait(() -> {
+                for (WebElement el : getWebElements())
+                    if (el.isDisplayed()) return false;
+                return true;
+            });
+        }, false);
     }
 
     protected boolean isDisplayedAction() {
@@ -80,7 +85,7 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
 
     @Step("Is {elName} displayed")
     private boolean isDisplayed(String elName) {
-        return actions.isDisplayed(this::isDisplayedAction);
+        return actions().isDisplayed(this::isDisplayedAction);
     }
 
     /**
@@ -92,7 +97,7 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
 
     @Step("Is {elName} hidden")
     private boolean isHidden(String elName) {
-        return actions.isDisplayed(() -> !isDisplayedAction());
+        return actions().isDisplayed(() -> !isDisplayedAction());
     }
 
     /**
@@ -104,7 +109,7 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
 
     @Step("{elName} - wait displayed")
     private void waitDisplayed(String elName) {
-        actions.waitDisplayed(this::waitDisplayedAction);
+        actions().waitDisplayed(this::waitDisplayedAction);
     }
 
     /**
@@ -116,7 +121,7 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
 
     @Step("{elName} - wait displayed")
     private void waitVanished(String elName) {
-        actions.waitVanished(this::waitVanishedAction);
+        actions().waitVanished(this::waitVanishedAction);
     }
 
     public WebElement getElement(String name) {
@@ -146,7 +151,7 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
     }
 
     public final MapArray<String, WebElement> getElements() {
-        return invoker.doJActionResult("Get elements", this::getElementsAction);
+        return invoker().doJActionResult("Get elements", this::getElementsAction);
     }
 
     public final List<String> getLabels() {
@@ -155,7 +160,7 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
 
     @Step("{elName} - Get names")
     private List<String> getLabels(String elName) {
-        return invoker.doJActionResult("Get names", this::getLabelsAction);
+        return invoker().doJActionResult("Get names", this::getLabelsAction);
     }
 
     protected String getTextAction(WebElement element) {
@@ -172,7 +177,7 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
 
     @Step("Get text for Element {elName} with name {name}")
     private String getText(String elName, String name) {
-        return invoker.doJActionResult(String.format("Get text for Element '%s' with name '%s'", this.toString(), name),
+        return invoker().doJActionResult(String.format("Get text for Element '%s' with name '%s'", this.toString(), name),
                 () -> getTextAction(getElement(name)));
     }
 
@@ -181,13 +186,13 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
      * @return Get textList’s text by specified param
      */
     public final String getText(int index) {
-        return invoker.doJActionResult(String.format("Get text for Element '%s' with index '%s'", this.toString(), index),
+        return invoker().doJActionResult(String.format("Get text for Element '%s' with index '%s'", this.toString(), index),
                 () -> getTextAction(getElement(index)));
     }
 
     @Step("Get text for Element {elName} with index {index}")
     private String getText(String elName, int index) {
-        return invoker.doJActionResult(String.format("Get text for Element '%s' with index '%s'", this.toString(), index),
+        return invoker().doJActionResult(String.format("Get text for Element '%s' with index '%s'", this.toString(), index),
                 () -> getTextAction(getElement(index)));
     }
 
@@ -224,7 +229,7 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
 
     @Step("{elName} - Get value")
     private String getValue(String elName) {
-        return invoker.doJActionResult("Get value", this::getValueAction);
+        return invoker().doJActionResult("Get value", this::getValueAction);
     }
 
     /**
@@ -250,7 +255,7 @@ public class TextList<TEnum extends Enum> extends BaseElement implements ITextLi
 
     @Step("{elName} - Get list of texts")
     private List<String> getTextList(String elName) {
-        return invoker.doJActionResult("Get list of texts", () -> select(getWebElements(), WebElement::getText),
+        return invoker().doJActionResult("Get list of texts", () -> select(getWebElements(), WebElement::getText),
                 PrintUtils::print);
     }
 
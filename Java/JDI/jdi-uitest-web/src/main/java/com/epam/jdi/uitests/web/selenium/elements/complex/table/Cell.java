@@ -53,6 +53,8 @@ class Cell extends SelectElement implements ISelect, ICell {
     private String columnName;
     private String rowName;
     private By cellLocatorTemplate = By.xpath(".//tr[{1}]/td[{0}]");
+    private String snapshotValue;
+    private TableSnapshot snapshot;
 
     Cell(WebElement webElement, int columnNum, int rowNum, String colName, String rowName,
                 By cellLocatorTemplate, Table table) {
@@ -83,6 +85,15 @@ class Cell extends SelectElement implements ISelect, ICell {
         this.webElement = webElement;
     }
 
+    /**
+     * Value is used till snapshot it is taken from is dropped or page is changed
+     */
+    Cell setSnapshotValue(String value, TableSnapshot snapshot) {
+        snapshotValue = value;
+        this.snapshot = snapshot;
+        return this;
+    }
+
     public int columnNum() {
         return columnNum;
     }
@@ -105,6 +116,9 @@ class Cell extends SelectElement implements ISelect, ICell {
 
     @Override
     protected String getTextAction() {
+        if (snapshotValue != null && table.isSnapshotActual(snapshot))
+            return snapshotValue;
+        setSnapshotValue(null, null);
         return get().getText();
     }
 
@@ -0,0 +1,117 @@
+package com.epam.jdi.uitests.web.selenium.elements.complex.table;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+import com.epam.jdi.uitests.core.interfaces.complex.interfaces.ICell;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Already found Table Cells: list in order of adding, indexed by (column, row) position<br>
+ * Column and row numbers are packed in one long key, so lookup doesn't depend on cache size.
+ * If several Cells have the same position the last added one is found
+ */
+class CellsCache extends AbstractList<ICell> {
+    private final List<ICell> cells = new ArrayList<>();
+    private final Map<Long, Cell> index = new HashMap<>();
+
+    private static long key(int colNum, int rowNum) {
+        return ((long) colNum << 32) | (rowNum & 0xFFFFFFFFL);
+    }
+
+    Cell get(int colNum, int rowNum) {
+        return index.get(key(colNum, rowNum));
+    }
+
+    @Override
+    public ICell get(int i) {
+        return cells.get(i);
+    }
+
+    @Override
+    public int size() {
+        return cells.size();
+    }
+
+    @Override
+    public void add(int i, ICell cell) {
+        cells.add(i, cell);
+        modCount++;
+        addToIndex(cell);
+    }
+
+    @Override
+    public ICell set(int i, ICell cell) {
+        ICell old = cells.set(i, cell);
+        removeFromIndex(old);
+        addToIndex(cell);
+        return old;
+    }
+
+    @Override
+    public ICell remove(int i) {
+        ICell old = cells.remove(i);
+        modCount++;
+        removeFromIndex(old);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        cells.clear();
+        index.clear();
+        modCount++;
+    }
+
+    /**
+     * Only Cells not in index (other ICell implementations or Cells with the same position) are searched one by one
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (o instanceof Cell) {
+            Cell cell = (Cell) o;
+            if (get(cell.columnNum(), cell.rowNum()) == cell)
+                return true;
+        }
+        return cells.size() != index.size() && cells.contains(o);
+    }
+
+    private void addToIndex(ICell cell) {
+        if (cell instanceof Cell)
+            index.put(key(cell.columnNum(), cell.rowNum()), (Cell) cell);
+    }
+
+    private void removeFromIndex(ICell cell) {
+        if (!(cell instanceof Cell))
+            return;
+        long key = key(cell.columnNum(), cell.rowNum());
+        if (index.get(key) != cell)
+            return;
+        index.remove(key);
+        for (int i = cells.size() - 1; i >= 0; i--)
+            if (cells.get(i) instanceof Cell && key(cells.get(i).columnNum(), cells.get(i).rowNum()) == key) {
+                index.put(key, (Cell) cells.get(i));
+                return;
+            }
+    }
+}
@@ -54,6 +54,9 @@ public class Columns extends TableLine implements IColumn {
     }
 
     public final MapArray<String, ICell> getColumn(String colName) {
+        TableSnapshot snapshot = table.getSnapshot();
+        if (snapshot != null)
+            return table.snapshotColumn(snapshot, getSnapshotColumnNum(snapshot, colName));
         try {
             int rowsCount = table.rows().count();
             List<String> headers = table.rows().headers();
@@ -68,6 +71,9 @@ public class Columns extends TableLine implements IColumn {
     }
 
     public final List<String> getColumnValue(String colName) {
+        TableSnapshot snapshot = table.getSnapshot();
+        if (snapshot != null)
+            return snapshot.columnValue(getSnapshotColumnNum(snapshot, colName));
         try {
             return select(getLineAction(colName), WebElement::getText);
         } catch (Exception | Error ex) {
@@ -107,6 +113,9 @@ public class Columns extends TableLine implements IColumn {
             throw exception("Table indexes starts from 1");
         if (count() < 0 || count() < colNum || colNum <= 0)
             throw exception("Can't Get Column '%s'. [num] > RowsCount(%s).", colNum, count());
+        TableSnapshot snapshot = table.getSnapshot();
+        if (snapshot != null)
+            return table.snapshotColumn(snapshot, colNum);
         try {
             int rowsCount = table.rows().count();
             List<WebElement> webColumn = timer().getResultByCondition(
@@ -124,6 +133,9 @@ public class Columns extends TableLine implements IColumn {
             throw exception("Table indexes starts from 1");
         if (count() < 0 || count() < colNum || colNum <= 0)
             throw exception("Can't Get Column '%s'. [num] > RowsCount(%s).", colNum, count());
+        TableSnapshot snapshot = table.getSnapshot();
+        if (snapshot != null)
+            return snapshot.columnValue(colNum);
         try {
             return select(getLineAction(colNum), WebElement::getText);
         } catch (Exception | Error ex) {
@@ -139,6 +151,17 @@ public class Columns extends TableLine implements IColumn {
         return new MapArray<>(headers(), key -> key, this::getColumn);
     }
 
+    protected MapArray<String, MapArray<String, String>> getAsText(TableSnapshot snapshot) {
+        return snapshot.columnsAsText();
+    }
+
+    private int getSnapshotColumnNum(TableSnapshot snapshot, String colName) {
+        int colNum = snapshot.columnNum(colName);
+        if (colNum == 0)
+            throw throwColumnException(colName, "No such column in Table snapshot");
+        return colNum;
+    }
+
     private RuntimeException throwColumnException(String columnName, String ex) {
         return exception("Can't Get Column '%s'. Reason: %s", columnName, ex);
     }
@@ -32,6 +32,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static com.epam.commons.LinqUtils.select;
 import static com.epam.commons.LinqUtils.where;
@@ -180,6 +181,21 @@ public class EntityTable<E, R> extends Table implements IEntityTable<E,R> {
         return result;
     }
 
+    private E textRowToEntity(MapArray<String, String> row) {
+        E entity = newEntity(entityClass);
+        Field[] fields = entity.getClass().getFields();
+        row.pairs.forEach(entry
+            -> setEntityField(entity, fields, entry.key, entry.value));
+        return entity;
+    }
+
+    /**
+     * Entities from current page to the last one using linked Pagination (see setPagination())
+     */
+    public Stream<E> streamEntities() {
+        return streamRows().map(this::textRowToEntity);
+    }
+
     private void setEntityField(E entity, Field[] fields, String fieldName, String value)
     {
         setField(entity, fields, fieldName, field -> convertStringToType(value, field));
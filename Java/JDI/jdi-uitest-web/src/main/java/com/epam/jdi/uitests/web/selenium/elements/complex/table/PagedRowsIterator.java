@@ -0,0 +1,129 @@
+package com.epam.jdi.uitests.web.selenium.elements.complex.table;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+import com.epam.commons.Timer;
+import com.epam.commons.map.MapArray;
+import com.epam.jdi.uitests.web.selenium.elements.composite.Pagination;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.epam.commons.LinqUtils.select;
+import static com.epam.jdi.uitests.core.settings.JDISettings.exception;
+import static com.epam.jdi.uitests.core.settings.JDISettings.timeouts;
+
+/**
+ * Iterates rows of the Table page by page using linked Pagination<br>
+ * Rows are texts read from the page, at most two pages are kept in memory: current one and prefetched next one.
+ * Next page is requested right after current page is read, so browser loads it while the caller processes
+ * rows of current page, and it is read before the last row of current page is returned.
+ * So the caller shouldn't work with Table elements while iterating: the browser shows the next page already.
+ * Iteration ends on the page where Pagination has no next page
+ */
+class PagedRowsIterator implements Iterator<MapArray<String, String>> {
+    private final Table table;
+    private final Pagination pagination;
+    private TableSnapshot page;
+    private TableSnapshot nextPage;
+    private boolean nextRequested;
+    private WebElement firstRow;
+    private int rowNum;
+
+    PagedRowsIterator(Table table, Pagination pagination) {
+        this.table = table;
+        this.pagination = pagination;
+    }
+
+    public boolean hasNext() {
+        if (page == null)
+            setPage(readPage());
+        while (rowNum >= page.rowsCount()) {
+            if (!nextRequested)
+                return false;
+            setPage(nextPage != null ? nextPage : waitNextPage());
+        }
+        return true;
+    }
+
+    public MapArray<String, String> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        MapArray<String, String> row = page.rowAsText(++rowNum);
+        if (rowNum == page.rowsCount() && nextRequested && nextPage == null)
+            nextPage = waitNextPage();
+        return row;
+    }
+
+    private void setPage(TableSnapshot snapshot) {
+        page = snapshot;
+        nextPage = null;
+        rowNum = 0;
+        firstRow = firstRow();
+        nextRequested = pagination.hasNext();
+        if (nextRequested)
+            pagination.next();
+    }
+
+    /**
+     * Next page is loaded when first row of previous page is removed or rows values are changed
+     * @throws RuntimeException if next page is not loaded during current timeout
+     */
+    private TableSnapshot waitNextPage() {
+        TableSnapshot previousPage = page;
+        WebElement previousFirstRow = firstRow;
+        TableSnapshot result = new Timer(timeouts.getCurrentTimeoutSec() * 1000L).getResultByCondition(
+            this::readPage, snapshot -> snapshot.rowsCount() > 0
+                && (isStale(previousFirstRow) || !snapshot.hasSameValues(previousPage)));
+        if (result == null)
+            throw exception("Next page of Table '%s' is not loaded during %s seconds",
+                table.getName(), timeouts.getCurrentTimeoutSec());
+        return result;
+    }
+
+    private WebElement firstRow() {
+        List<WebElement> rows = table.rows.getHeadersAction();
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private static boolean isStale(WebElement element) {
+        if (element == null)
+            return false;
+        try {
+            element.isEnabled();
+            return false;
+        } catch (StaleElementReferenceException ex) {
+            return true;
+        }
+    }
+
+    private TableSnapshot readPage() {
+        table.cleanCells();
+        table.dropSnapshot();
+        table.rows().clean();
+        TableSnapshot snapshot = TableSnapshot.take(table);
+        if (snapshot != null)
+            return snapshot;
+        List<String> rowHeaders = table.rows().headers();
+        return new TableSnapshot(table.columns().headers(), rowHeaders, select(rowHeaders, table::rowValue));
+    }
+}
@@ -55,9 +55,16 @@ public class Rows extends TableLine implements IRow {
         return new MapArray<>(headers(), key -> key, this::getRow);
     }
 
+    protected MapArray<String, MapArray<String, String>> getAsText(TableSnapshot snapshot) {
+        return snapshot.rowsAsText();
+    }
+
     ///
 
     public List<String> getRowValue(String rowName) {
+        TableSnapshot snapshot = table.getSnapshot();
+        if (snapshot != null)
+            return snapshot.rowValue(getSnapshotRowNum(snapshot, rowName));
         try {
             return select(getLineAction(rowName), WebElement::getText);
         } catch (Exception | Error ex) {
@@ -80,6 +87,9 @@ public class Rows extends TableLine implements IRow {
             throw exception("Table indexes starts from 1");
         if (count() < 0 || count() < rowNum || rowNum <= 0)
             throw exception("Can't Get Row '%s'. [num] > ColumnsCount(%s).", rowNum, count());
+        TableSnapshot snapshot = table.getSnapshot();
+        if (snapshot != null)
+            return table.snapshotRow(snapshot, rowNum);
         try {
             int colsCount = table.columns().count();
             List<WebElement> webRow = timer().getResultByCondition(
@@ -97,6 +107,9 @@ public class Rows extends TableLine implements IRow {
             throw exception("Table indexes starts from 1");
         if (count() < 0 || count() < rowNum || rowNum <= 0)
             throw exception("Can't Get Row '%s'. [num] > ColumnsCount(%s).", rowNum, count());
+        TableSnapshot snapshot = table.getSnapshot();
+        if (snapshot != null)
+            return snapshot.rowValue(rowNum);
         try {
             return select(getLineAction(rowNum), WebElement::getText);
         } catch (Exception | Error ex) {
@@ -109,23 +122,30 @@ public class Rows extends TableLine implements IRow {
     }
 
     private MapArray<String, MapArray<String, ICell>> withValueByRule(
-        Column column, JFuncTTREx<String, String, Boolean> func) {
+        Column column, CheckPageTypes type, String value, JFuncTTREx<String, String, Boolean> func) {
+        TableSnapshot snapshot = table.getSnapshot();
+        if (snapshot != null)
+            return table.snapshotRows(snapshot,
+                snapshot.rowNums(table.snapshotColumnNum(snapshot, column), type, value));
         Collection<String> rowNames = column.hasName()
                 ? table.columns().getColumnAsText(column.getName()).where(func).keys()
                 : table.columns().getColumnAsText(column.getNum()).where(func).keys();
         return new MapArray<>(rowNames, key -> key, this::getRow);
     }
     public final MapArray<String, MapArray<String, ICell>> withValue(String value, Column column) {
-        return withValueByRule(column, (key, val) -> val.equals(value));
+        return withValueByRule(column, CheckPageTypes.EQUAL, value, (key, val) -> val.equals(value));
     }
     public final MapArray<String, MapArray<String, ICell>> containsValue(String value, Column column) {
-        return withValueByRule(column, (key, val) -> val.contains(value));
+        return withValueByRule(column, CheckPageTypes.CONTAINS, value, (key, val) -> val.contains(value));
     }
     public final MapArray<String, MapArray<String, ICell>> matchesRegEx(String regEx, Column column) {
-        return withValueByRule(column, (key, val) -> val.matches(regEx));
+        return withValueByRule(column, CheckPageTypes.MATCH, regEx, (key, val) -> val.matches(regEx));
     }
 
     public final MapArray<String, ICell> getRow(String rowName) {
+        TableSnapshot snapshot = table.getSnapshot();
+        if (snapshot != null)
+            return table.snapshotRow(snapshot, getSnapshotRowNum(snapshot, rowName));
         try {
             int colsCount = table.columns().count();
             List<WebElement> webRowLine = timer().getResultByCondition(
@@ -139,6 +159,13 @@ public class Rows extends TableLine implements IRow {
         }
     }
 
+    private int getSnapshotRowNum(TableSnapshot snapshot, String rowName) {
+        int rowNum = snapshot.rowNum(rowName);
+        if (rowNum == 0)
+            throw throwRowsException(rowName, "No such row in Table snapshot");
+        return rowNum;
+    }
+
     protected boolean skipFirstColumn() {
         return hasHeader && lineTemplate == null;
     }
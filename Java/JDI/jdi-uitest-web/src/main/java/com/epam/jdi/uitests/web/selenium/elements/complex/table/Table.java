@@ -26,6 +26,7 @@ import com.epam.jdi.uitests.web.selenium.elements.apiInteract.GetElementModule;
 import com.epam.jdi.uitests.web.selenium.elements.base.BaseElement;
 import com.epam.jdi.uitests.web.selenium.elements.common.Text;
 import com.epam.jdi.uitests.web.selenium.elements.complex.Elements;
+import com.epam.jdi.uitests.web.selenium.elements.composite.Pagination;
 import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.objects.JTable;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
@@ -34,19 +35,30 @@ import io.qameta.allure.Step;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.epam.commons.EnumUtils.getAllEnumNames;
 import static com.epam.commons.EnumUtils.getEnumValue;
 import static com.epam.commons.LinqUtils.*;
 import static com.epam.commons.PrintUtils.print;
 import static com.epam.commons.Timer.waitCondition;
+import static com.epam.jdi.uitests.core.interfaces.complex.interfaces.CheckPageTypes.*;
 import static com.epam.jdi.uitests.core.settings.JDISettings.*;
+import static com.epam.jdi.uitests.web.selenium.driver.ImplicitWait.setImplicitWait;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.PageNavigation.pageVersion;
 import static com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.WebAnnotationsUtil.findByToBy;
 import static com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.objects.FillFromAnnotationRules.fieldHasAnnotation;
 import static java.lang.Integer.parseInt;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -55,12 +67,17 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  */
 public class Table extends Text implements ITable, Cloneable {
     public boolean cache = true;
+    public boolean snapshot = false;
+    protected TableSnapshot tableSnapshot;
+    private long snapshotVersion;
+    private boolean headersFromSnapshot;
     protected List<String> footer;
     protected By cellLocatorTemplate;
-    protected List<ICell> allCells = new ArrayList<>();
+    protected List<ICell> allCells = new CellsCache();
     protected Columns columns = new Columns();
     protected Rows rows = new Rows();
     protected By footerLocator = By.xpath(".//tfoot/tr/th");
+    protected Pagination pagination;
 
     // ------------------------------------------ //
 
@@ -137,15 +154,46 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     public List<ICell> getCells() {
+        TableSnapshot snapshot = getSnapshot();
+        if (snapshot != null)
+            return getCells(snapshot);
         List<ICell> result = new ArrayList<>();
         for (String columnName : columns().headers())
             headers().forEach(rowName
                 -> result.add(cell(columnName, rowName)));
-        if (cache)
-            allCells = result;
         return result;
     }
 
+    private List<ICell> getCells(TableSnapshot snapshot) {
+        List<ICell> result = new ArrayList<>();
+        for (int colNum = 1; colNum <= snapshot.columnsCount(); colNum++)
+            for (int rowNum = 1; rowNum <= snapshot.rowsCount(); rowNum++)
+                result.add(snapshotCell(snapshot, colNum, rowNum));
+        return result;
+    }
+
+    /**
+     * Link Pagination that switches pages of this Table. Used by streamRows()
+     */
+    public Table setPagination(Pagination pagination) {
+        this.pagination = pagination;
+        return this;
+    }
+
+    /**
+     * Iterate rows (column name -> value) from current page to the last one using linked Pagination<br>
+     * Only current page and prefetched next one are kept in memory (see PagedRowsIterator)
+     */
+    public Iterator<MapArray<String, String>> pagedRows() {
+        if (pagination == null)
+            throw exception("Can't iterate pages of Table '%s'. Link Pagination using setPagination()", getName());
+        return new PagedRowsIterator(this, pagination);
+    }
+
+    public Stream<MapArray<String, String>> streamRows() {
+        return StreamSupport.stream(spliteratorUnknownSize(pagedRows(), ORDERED | NONNULL), false);
+    }
+
     public static void setUp(BaseElement el, Field field) {
         if (!fieldHasAnnotation(field, JTable.class, ITable.class))
             return;
@@ -221,6 +269,7 @@ public class Table extends Text implements ITable, Cloneable {
                 hasNoHeaders();
         }
         useCache(jTable.useCache());
+        useSnapshot(jTable.useSnapshot());
         return this;
     }
 
@@ -229,8 +278,78 @@ public class Table extends Text implements ITable, Cloneable {
         return this;
     }
 
+    public ITable useSnapshot(boolean value) {
+        snapshot = value;
+        dropSnapshot();
+        cleanCells();
+        return this;
+    }
+
+    /**
+     * Snapshot is taken on first request and kept until clean(), navigation or any action on the page
+     * (click, input...). Snapshot of empty Table is kept as well, but Table headers are taken from
+     * not empty snapshot only
+     * @return snapshot of all Table texts or null if snapshot mode is off or not supported for this Table
+     */
+    public TableSnapshot getSnapshot() {
+        if (!snapshot)
+            return null;
+        long version = pageVersion(getAvatar().getDriverName());
+        if (tableSnapshot != null && snapshotVersion == version)
+            return tableSnapshot;
+        dropSnapshot();
+        TableSnapshot result = TableSnapshot.take(this);
+        if (result == null) {
+            logger.info(format("Can't take snapshot for Table '%s'. Cells will be read one by one", getName()));
+            snapshot = false;
+            return null;
+        }
+        tableSnapshot = result;
+        snapshotVersion = version;
+        if (result.rowsCount() > 0) {
+            columns.headers = new ArrayList<>(result.columnHeaders());
+            rows.headers = new ArrayList<>(result.rowHeaders());
+            headersFromSnapshot = true;
+        }
+        return result;
+    }
+
+    /**
+     * Forget snapshot, Cells with its values and headers taken from it
+     */
+    void dropSnapshot() {
+        if (tableSnapshot == null)
+            return;
+        tableSnapshot = null;
+        cleanCells();
+        if (headersFromSnapshot) {
+            columns.headers = null;
+            rows.headers = null;
+            headersFromSnapshot = false;
+        }
+    }
+
+    /**
+     * @return true if snapshot is still the current one and page wasn't changed, so its values can be used
+     */
+    boolean isSnapshotActual(TableSnapshot snapshot) {
+        return snapshot != null && tableSnapshot == snapshot
+            && snapshotVersion == pageVersion(getAvatar().getDriverName());
+    }
+
+    /**
+     * Forget already found Cells and values they took from snapshot. Headers and counts are kept
+     */
+    public void cleanCells() {
+        for (ICell cell : allCells)
+            if (cell instanceof Cell)
+                ((Cell) cell).setSnapshotValue(null, null);
+        allCells.clear();
+    }
+
     public void clean() {
-        allCells = new ArrayList<>();
+        cleanCells();
+        dropSnapshot();
         columns().clean();
         rows().clean();
     }
@@ -384,7 +503,7 @@ public class Table extends Text implements ITable, Cloneable {
     public List<String> footer() {
         if (footer != null)
             return getFooter();
-        footer = invoker.doJActionResult("Get Footer", this::getFooterAction);
+        footer = invoker().doJActionResult("Get Footer", this::getFooterAction);
         if (footer == null || footer.size() == 0)
             return new ArrayList<>();
         columns().setCount(footer.size());
@@ -392,6 +511,13 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     public ICell cell(Column column, Row row) {
+        TableSnapshot snapshot = getSnapshot();
+        if (snapshot != null) {
+            int colNum = column.get(snapshot::columnNum, num -> num);
+            int rowNum = row.get(snapshot::rowNum, num -> num);
+            if (colNum > 0 && colNum <= snapshot.columnsCount() && rowNum > 0 && rowNum <= snapshot.rowsCount())
+                return snapshotCell(snapshot, colNum, rowNum);
+        }
         int colIndex = column.get(this::getColumnIndex, num -> num + columns().getStartIndex() - 1);
         int rowIndex = row.get(this::getRowIndex, num -> num + rows().getStartIndex() - 1);
         return addCell(colIndex, rowIndex,
@@ -428,6 +554,9 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     public ICell cell(String value) {
+        TableSnapshot snapshot = getSnapshot();
+        if (snapshot != null)
+            return firstSnapshotCell(snapshot, value::equals);
         ICell result;
         for (Pair<String, MapArray<String, ICell>> row : rows().get()) {
             result = row.value.first((cName, cValue) -> cValue.getText().equals(value));
@@ -438,6 +567,9 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     public ICell cellMatch(String regex) {
+        TableSnapshot snapshot = getSnapshot();
+        if (snapshot != null)
+            return firstSnapshotCell(snapshot, cellValue -> cellValue.matches(regex));
         ICell result;
         for (Pair<String, MapArray<String, ICell>> row : rows().get()) {
             result = row.value.first((cName, cValue) -> cValue.getText().matches(regex));
@@ -462,6 +594,9 @@ public class Table extends Text implements ITable, Cloneable {
         List<TableFilter> filters = new ArrayList<>();
         for (String colNameValue : colNameValues)
             filters.add(new TableFilter(colNameValue));
+        TableSnapshot snapshot = getSnapshot();
+        if (snapshot != null)
+            return snapshotRows(snapshot, filters, colNameValues);
         boolean matches = false;
         MapArray<String, MapArray<String, ICell>> result = new MapArray<>();
         for (Pair<String, MapArray<String, ICell>> row : rows().get()) {
@@ -497,6 +632,32 @@ public class Table extends Text implements ITable, Cloneable {
     public MapArray<String, MapArray<String, ICell>> columnsMatches(String regEx, Row row) {
         return columns().matchesRegEx(regEx, row);
     }
+
+    private MapArray<String, MapArray<String, ICell>> snapshotRows(TableSnapshot snapshot,
+            List<TableFilter> filters, String... colNameValues) {
+        List<Integer> rowNums = null;
+        for (TableFilter filter : filters) {
+            int colNum = snapshot.columnNum(filter.name);
+            if (colNum == 0)
+                throw exception(format("Search rows for '%s' failed. Can't get cell for column named %s",
+                        print(colNameValues), filter.name));
+            List<Integer> filterRowNums = snapshot.rowNums(colNum, filter.type, filter.value);
+            if (rowNums == null)
+                rowNums = filterRowNums;
+            else
+                rowNums.retainAll(new HashSet<>(filterRowNums));
+            if (rowNums.isEmpty())
+                break;
+        }
+        return snapshotRows(snapshot, rowNums);
+    }
+
+    MapArray<String, MapArray<String, ICell>> snapshotRows(TableSnapshot snapshot, List<Integer> rowNums) {
+        return new MapArray<>(rowNums,
+                rowNum -> snapshot.rowHeaders().get(rowNum - 1),
+                rowNum -> snapshotRow(snapshot, rowNum));
+    }
+
     public MapArray<String, MapArray<String, ICell>> columns(String... rowNameValues) {
         if (rowNameValues.length == 0)
             return columns().get();
@@ -521,17 +682,23 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     public boolean waitValue(String value, Row row) {
-        return timer().wait(() -> column(value, row) != null);
+        return timer().wait(() -> {
+            dropSnapshot();
+            return column(value, row) != null;
+        });
     }
 
     public boolean waitValue(String value, Column column) {
-        return waitCondition(() -> row(value, column) != null);
+        return waitCondition(() -> {
+            dropSnapshot();
+            return row(value, column) != null;
+        });
     }
 
     public boolean isEmpty() {
-        getDriver().manage().timeouts().implicitlyWait(0, MILLISECONDS);
+        setImplicitWait(getDriver(), 0, MILLISECONDS);
         int rowsCount = rows().count(true);
-        getDriver().manage().timeouts().implicitlyWait(timeouts.getCurrentTimeoutSec(), SECONDS);
+        setImplicitWait(getDriver(), timeouts.getCurrentTimeoutSec(), SECONDS);
         return rowsCount == 0;
     }
 
@@ -566,18 +733,31 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     public ICell cell(String value, Column column) {
+        TableSnapshot snapshot = getSnapshot();
+        if (snapshot != null)
+            return firstSnapshotCell(snapshot, column, EQUAL, value);
         int colIndex = column.get(
                 name -> columns().headers().indexOf(name) + 1,
                 num -> num);
         return columns().getColumn(colIndex).first((name, cell) -> cell.getValue().equals(value));
     }
     public ICell cellContains(String value, Column column) {
+        TableSnapshot snapshot = getSnapshot();
+        if (snapshot != null)
+            return firstSnapshotCell(snapshot, column, CONTAINS, value);
         int colIndex = column.get(
                 name -> columns().headers().indexOf(name) + 1,
                 num -> num);
         return columns().getColumn(colIndex).first((name, cell) -> cell.getValue().contains(value));
     }
     public ICell cellMatch(String regex, Column column) {
+        TableSnapshot snapshot = getSnapshot();
+        if (snapshot != null) {
+            ICell cell = firstSnapshotCell(snapshot, column, MATCH, regex);
+            if (cell == null)
+                logger.info(format("Can't find any cells in column %s that matches regEx: %s", column, regex));
+            return cell;
+        }
         MapArray<String, ICell> columnLine = column(column);
         List<ICell> cells = matches(columnLine.values(), regex);
         if (cells.size() == 0) {
@@ -676,10 +856,63 @@ public class Table extends Text implements ITable, Cloneable {
                         rowName -> "||" + rowName + "||" + print(rowValue(rowName), "|") + "||"), "\n");
     }
 
+    private ICell firstSnapshotCell(TableSnapshot snapshot, Predicate<String> condition) {
+        for (int rowNum = 1; rowNum <= snapshot.rowsCount(); rowNum++)
+            for (int colNum = 1; colNum <= snapshot.columnsCount(); colNum++) {
+                String value = snapshot.value(colNum, rowNum);
+                if (value != null && condition.test(value))
+                    return snapshotCell(snapshot, colNum, rowNum);
+            }
+        return null;
+    }
+
+    private ICell firstSnapshotCell(TableSnapshot snapshot, Column column, CheckPageTypes type, String value) {
+        int colNum = snapshotColumnNum(snapshot, column);
+        List<Integer> rowNums = snapshot.rowNums(colNum, type, value);
+        return rowNums.isEmpty()
+            ? null
+            : snapshotCell(snapshot, colNum, rowNums.get(0));
+    }
+
+    int snapshotColumnNum(TableSnapshot snapshot, Column column) {
+        int colNum = column.get(snapshot::columnNum, num -> num);
+        if (colNum <= 0 || colNum > snapshot.columnsCount())
+            throw exception("Can't Get Column '%s'. Available ColumnHeaders: (%s)",
+                    column, print(snapshot.columnHeaders(), ", ", "'{0}'"));
+        return colNum;
+    }
+
+    ICell snapshotCell(TableSnapshot snapshot, int colNum, int rowNum) {
+        return addCell(colNum + columns().getStartIndex() - 1, rowNum + rows().getStartIndex() - 1,
+                colNum, rowNum,
+                snapshot.columnHeaders().get(colNum - 1),
+                snapshot.rowHeaders().get(rowNum - 1))
+            .setSnapshotValue(snapshot.value(colNum, rowNum), snapshot);
+    }
+
+    MapArray<String, ICell> snapshotRow(TableSnapshot snapshot, int rowNum) {
+        return new MapArray<>(snapshot.columnsCount(),
+                snapshot.columnHeaders()::get,
+                value -> snapshotCell(snapshot, value + 1, rowNum));
+    }
+
+    MapArray<String, ICell> snapshotColumn(TableSnapshot snapshot, int colNum) {
+        return new MapArray<>(snapshot.rowsCount(),
+                snapshot.rowHeaders()::get,
+                value -> snapshotCell(snapshot, colNum, value + 1));
+    }
+
+    /**
+     * Cells are found by index unless allCells was replaced with other List by subclass
+     */
+    private Cell cachedCell(int colNum, int rowNum) {
+        return allCells instanceof CellsCache
+            ? ((CellsCache) allCells).get(colNum, rowNum)
+            : (Cell) first(allCells, c -> c.columnNum() == colNum && c.rowNum() == rowNum);
+    }
+
     private Cell addCell(int colIndex, int rowIndex, int colNum, int rowNum, String colName, String rowName) {
-        Cell cell = (allCells.size() != 0)
-            ? (Cell) first(allCells, c -> c.columnNum() == colNum && c.rowNum() == rowNum)
-            : null;
+        Cell cell = cachedCell(colNum, rowNum);
         if (cell != null)
             return cell.updateData(colName, rowName);
         cell = new Cell(colIndex, rowIndex, colNum, rowNum, colName, rowName, cellLocatorTemplate, this);
@@ -690,7 +923,7 @@ public class Table extends Text implements ITable, Cloneable {
     }
 
     private Cell addCell(WebElement webElement, int colNum, int rowNum, String colName, String rowName) {
-        Cell cell = (Cell) first(allCells, c -> c.columnNum() == colNum && c.rowNum() == rowNum);
+        Cell cell = cachedCell(colNum, rowNum);
         if (cell != null) {
             cell.setWebElement(webElement);
             return cell.updateData(colName, rowName);
@@ -121,6 +121,8 @@ abstract class TableLine extends Element implements ITableLine, Cloneable {
     public int count(boolean acceptEmpty) {
         if (count > 0)
             return count;
+        if (headers == null)
+            table.getSnapshot();
         if (headers != null && headers.size() > 0)
             return headers.size();
         return getCount(acceptEmpty);
@@ -152,6 +154,8 @@ abstract class TableLine extends Element implements ITableLine, Cloneable {
     }
 
     public List<String> headers() {
+        if (headers == null)
+            table.getSnapshot();
         if (headers != null)
             return new ArrayList<>(headers);
         List<String> localHeaders = hasHeader
@@ -192,6 +196,11 @@ abstract class TableLine extends Element implements ITableLine, Cloneable {
     }
 
     public final MapArray<String, MapArray<String, String>> getAsText() {
-        return get().toMapArray(line -> line.toMapArray(IText::getText));
+        TableSnapshot snapshot = table.getSnapshot();
+        return snapshot != null
+            ? getAsText(snapshot)
+            : get().toMapArray(line -> line.toMapArray(IText::getText));
     }
+
+    protected abstract MapArray<String, MapArray<String, String>> getAsText(TableSnapshot snapshot);
 }
\ No newline at end of file
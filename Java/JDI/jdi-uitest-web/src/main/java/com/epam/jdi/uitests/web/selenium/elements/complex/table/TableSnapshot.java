@@ -0,0 +1,263 @@
+package com.epam.jdi.uitests.web.selenium.elements.complex.table;
+/*
+ * Copyright 2004-2016 EPAM Systems
+ *
+ * This file is part of JDI project.
+ *
+ * JDI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JDI is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDI. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+import com.epam.commons.map.MapArray;
+import com.epam.jdi.uitests.core.interfaces.complex.interfaces.CheckPageTypes;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static com.epam.jdi.uitests.web.selenium.driver.WebDriverByUtils.*;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Immutable in-memory copy of the Table texts: column headers, row headers and all cell values<br>
+ * Taken with one JavaScript call, so reading whole Table costs one round-trip instead of one per cell<br>
+ * Column and row numbers are 1-based like everywhere in Table<br>
+ * Row searches by column value use per column index (value -> row numbers) built on first search
+ */
+public final class TableSnapshot {
+    private static final String SNAPSHOT_SCRIPT =
+        "var root = arguments[0], cols = arguments[1], rowNames = arguments[2], line = arguments[3],"
+        + "    start = arguments[4], max = arguments[5], skipFirst = arguments[6];"
+        + "function find(loc, index) {"
+        + "  if (!loc) return [];"
+        + "  var ctx = loc[2] ? document : root;"
+        + "  var expr = index == null ? loc[1] : loc[1].split('%s').join(index);"
+        + "  if (loc[0] !== 'xpath') return Array.prototype.slice.call(ctx.querySelectorAll(expr));"
+        + "  var nodes = document.evaluate(expr, ctx, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+        + "  var result = [];"
+        + "  for (var i = 0; i < nodes.snapshotLength; i++) result.push(nodes.snapshotItem(i));"
+        + "  return result;"
+        + "}"
+        + "function visible(el) { return !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length); }"
+        + "function text(el) {"
+        + "  var t = el.innerText != null ? el.innerText : el.textContent || '';"
+        + "  return t.replace(/\\u00a0/g, ' ').split('\\n')"
+        + "    .map(function(line) { return line.replace(/[ \\t\\r]+/g, ' ').trim(); }).join('\\n').trim();"
+        + "}"
+        + "var rows = [];"
+        + "for (var i = start; max < 0 || i < start + max; i++) {"
+        + "  var cells = find(line, i).filter(visible);"
+        + "  if (cells.length === 0) break;"
+        + "  if (skipFirst) cells = cells.slice(1);"
+        + "  rows.push(cells.map(text));"
+        + "}"
+        + "return [cols ? find(cols).map(text) : null, rowNames ? find(rowNames).map(text) : null, rows];";
+
+    private final List<String> columnHeaders;
+    private final List<String> rowHeaders;
+    private final List<List<String>> values;
+    private final Map<Integer, Map<String, List<Integer>>> columnIndexes = new HashMap<>();
+
+    TableSnapshot(List<String> columnHeaders, List<String> rowHeaders, List<List<String>> values) {
+        this.columnHeaders = unmodifiableList(new ArrayList<>(columnHeaders));
+        this.rowHeaders = unmodifiableList(new ArrayList<>(rowHeaders));
+        List<List<String>> rows = new ArrayList<>();
+        for (List<String> row : values)
+            rows.add(unmodifiableList(new ArrayList<>(row)));
+        this.values = unmodifiableList(rows);
+    }
+
+    /**
+     * Takes snapshot of the Table with one script call
+     * @return null if Table locators can't be evaluated in browser (e.g. By.linkText) or driver can't execute scripts
+     */
+    static TableSnapshot take(Table table) {
+        Columns columns = (Columns) table.columns();
+        Rows rows = (Rows) table.rows();
+        By lineTemplate = rows.lineTemplate != null ? rows.lineTemplate : rows.defaultTemplate;
+        if (!(table.getDriver() instanceof JavascriptExecutor) || !getByLocator(lineTemplate).contains("%s"))
+            return null;
+        List<Object> columnHeadersLocator = columns.headers == null && columns.hasHeader
+            ? toScriptLocator(columns.headersLocator) : null;
+        List<Object> rowHeadersLocator = rows.headers == null && rows.hasHeader
+            ? toScriptLocator(rows.headersLocator) : null;
+        List<Object> lineLocator = toScriptLocator(lineTemplate);
+        if (lineLocator == null
+                || columnHeadersLocator == null && columns.headers == null && columns.hasHeader
+                || rowHeadersLocator == null && rows.headers == null && rows.hasHeader)
+            return null;
+        int rowsCount = rows.count > 0 ? rows.count
+            : rows.headers != null ? rows.headers.size() : -1;
+        Object taken = ((JavascriptExecutor) table.getDriver()).executeScript(SNAPSHOT_SCRIPT,
+            table.getWebElement(), columnHeadersLocator, rowHeadersLocator, lineLocator,
+            rows.startIndex, rowsCount, rows.skipFirstColumn());
+        if (!(taken instanceof List) || ((List<?>) taken).size() != 3 || !(((List<?>) taken).get(2) instanceof List))
+            return null;
+        List<?> result = (List<?>) taken;
+        List<List<String>> values = new ArrayList<>();
+        int cellsCount = 0;
+        for (Object row : (List<?>) result.get(2)) {
+            List<String> rowValues = toStrings(row);
+            cellsCount = Math.max(cellsCount, rowValues.size());
+            values.add(rowValues);
+        }
+        List<String> columnHeaders = columns.headers != null
+            ? columns.headers
+            : columns.hasHeader ? toStrings(result.get(0)) : columns.getNumList(cellsCount);
+        if (columns.count > 0 && columnHeaders.size() > columns.count)
+            columnHeaders = columnHeaders.subList(0, columns.count);
+        List<String> rowHeaders = rows.headers != null
+            ? rows.headers
+            : rows.hasHeader ? toStrings(result.get(1)) : rows.getNumList(values.size());
+        if (rows.count > 0 && rowHeaders.size() > rows.count)
+            rowHeaders = rowHeaders.subList(0, rows.count);
+        return new TableSnapshot(columnHeaders, rowHeaders, values);
+    }
+
+    private static List<Object> toScriptLocator(By by) {
+        if (by == null)
+            return null;
+        boolean fromRoot = containsRoot(by);
+        By locator = correctXPaths(fromRoot ? trimRoot(by) : by);
+        String value = getByLocator(locator);
+        String css;
+        switch (getByName(locator)) {
+            case "xpath": return toList("xpath", value, fromRoot);
+            case "cssSelector": css = value; break;
+            case "id": css = "[id='" + value + "']"; break;
+            case "name": css = "[name='" + value + "']"; break;
+            case "className": css = "." + value; break;
+            case "tagName": css = value; break;
+            default: return null;
+        }
+        return toList("css", css, fromRoot);
+    }
+
+    private static List<Object> toList(Object... values) {
+        List<Object> result = new ArrayList<>();
+        for (Object value : values)
+            result.add(value);
+        return result;
+    }
+
+    private static List<String> toStrings(Object list) {
+        List<String> result = new ArrayList<>();
+        if (list != null)
+            for (Object value : (List<?>) list)
+                result.add(value == null ? "" : value.toString());
+        return result;
+    }
+
+    public List<String> columnHeaders() {
+        return columnHeaders;
+    }
+
+    public List<String> rowHeaders() {
+        return rowHeaders;
+    }
+
+    public int columnsCount() {
+        return columnHeaders.size();
+    }
+
+    public int rowsCount() {
+        return rowHeaders.size();
+    }
+
+    public int columnNum(String columnName) {
+        return columnHeaders.indexOf(columnName) + 1;
+    }
+
+    public int rowNum(String rowName) {
+        return rowHeaders.indexOf(rowName) + 1;
+    }
+
+    /**
+     * @return cell value or null if there is no such cell in snapshot
+     */
+    public String value(int colNum, int rowNum) {
+        if (rowNum <= 0 || rowNum > values.size())
+            return null;
+        List<String> row = values.get(rowNum - 1);
+        return colNum > 0 && colNum <= row.size()
+            ? row.get(colNum - 1)
+            : null;
+    }
+
+    private synchronized Map<String, List<Integer>> columnIndex(int colNum) {
+        return columnIndexes.computeIfAbsent(colNum, num -> {
+            Map<String, List<Integer>> index = new LinkedHashMap<>();
+            for (int rowNum = 1; rowNum <= rowsCount(); rowNum++) {
+                String value = value(num, rowNum);
+                if (value != null)
+                    index.computeIfAbsent(value, key -> new ArrayList<>()).add(rowNum);
+            }
+            return index;
+        });
+    }
+
+    /**
+     * @return numbers of rows (in ascending order) where cell in column equals, contains or matches value
+     */
+    public List<Integer> rowNums(int colNum, CheckPageTypes type, String value) {
+        Map<String, List<Integer>> index = columnIndex(colNum);
+        if (type == CheckPageTypes.EQUAL) {
+            List<Integer> rowNums = index.get(value);
+            return rowNums != null ? new ArrayList<>(rowNums) : new ArrayList<>();
+        }
+        Pattern pattern = type == CheckPageTypes.MATCH ? Pattern.compile(value) : null;
+        List<Integer> result = new ArrayList<>();
+        for (Map.Entry<String, List<Integer>> entry : index.entrySet())
+            if (pattern != null
+                    ? pattern.matcher(entry.getKey()).matches()
+                    : entry.getKey().contains(value))
+                result.addAll(entry.getValue());
+        Collections.sort(result);
+        return result;
+    }
+
+    public boolean hasSameValues(TableSnapshot snapshot) {
+        return snapshot != null && rowHeaders.equals(snapshot.rowHeaders) && values.equals(snapshot.values);
+    }
+
+    public List<String> rowValue(int rowNum) {
+        List<String> result = new ArrayList<>();
+        for (int colNum = 1; colNum <= columnsCount(); colNum++)
+            result.add(value(colNum, rowNum));
+        return result;
+    }
+
+    public List<String> columnValue(int colNum) {
+        List<String> result = new ArrayList<>();
+        for (int rowNum = 1; rowNum <= rowsCount(); rowNum++)
+            result.add(value(colNum, rowNum));
+        return result;
+    }
+
+    public MapArray<String, String> rowAsText(int rowNum) {
+        return new MapArray<>(columnsCount(), columnHeaders::get, i -> value(i + 1, rowNum));
+    }
+
+    public MapArray<String, String> columnAsText(int colNum) {
+        return new MapArray<>(rowsCount(), rowHeaders::get, i -> value(colNum, i + 1));
+    }
+
+    public MapArray<String, MapArray<String, String>> rowsAsText() {
+        return new MapArray<>(rowsCount(), rowHeaders::get, i -> rowAsText(i + 1));
+    }
+
+    public MapArray<String, MapArray<String, String>> columnsAsText() {
+        return new MapArray<>(columnsCount(), columnHeaders::get, i -> columnAsText(i + 1));
+    }
+}
@@ -132,7 +132,7 @@ public class Form<T> extends Element implements IForm<T> {
 	@Step("{elName} - submit {objStrings}")
 	private void submit(String elName, MapArray<String, String> objStrings) {
 		fill(objStrings);
-		getElementClass.getButton("submit").click();
+		getElementClass().getButton("submit").click();
 	}
 
 	private void setText(String text) {
@@ -153,7 +153,7 @@ public class Form<T> extends Element implements IForm<T> {
 	@Step("{elName} - submit {text}")
 	private void submitCustom(String elName, String text) {
 		setText(text);
-		getElementClass.getButton("submit").click();
+		getElementClass().getButton("submit").click();
 	}
 
 	/**
@@ -171,7 +171,7 @@ public class Form<T> extends Element implements IForm<T> {
 	@Step("{elName} - submit entity {entity} and click button {buttonName}")
 	private void submit(String elName, T entity, String buttonName) {
 		fill(getMapFromObject(entity));
-		getElementClass.getButton(buttonName).click();
+		getElementClass().getButton(buttonName).click();
 	}
 
 	/**
@@ -188,7 +188,7 @@ public class Form<T> extends Element implements IForm<T> {
 	@Step("{elName} - submit {text} and click button {buttonName}")
 	private void submit(String elName, String text, String buttonName) {
 		setText(text);
-		getElementClass.getButton(buttonName).click();
+		getElementClass().getButton(buttonName).click();
 	}
 
 	/**
@@ -206,7 +206,7 @@ public class Form<T> extends Element implements IForm<T> {
 	@Step("{elName} - submit {entity} and click button {buttonName}")
 	private void submit(String elName, T entity, Enum buttonName) {
 		fill(getMapFromObject(entity));
-		getElementClass.getButton(buttonName.toString().toLowerCase()).click();
+		getElementClass().getButton(buttonName.toString().toLowerCase()).click();
 	}
 
 	public T getEntity() {
@@ -255,7 +255,7 @@ public class Form<T> extends Element implements IForm<T> {
 	 * @return Get value of Element
 	 */
 	public final String getValue() {
-		return actions.getValue(this::getValueAction);
+		return actions().getValue(this::getValueAction);
 	}
 
 }
\ No newline at end of file
@@ -27,6 +27,7 @@ import com.epam.jdi.uitests.web.selenium.elements.base.BaseElement;
 import com.epam.jdi.uitests.web.selenium.elements.base.Clickable;
 import com.epam.jdi.uitests.web.selenium.elements.base.Element;
 import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
 import io.qameta.allure.Step;
 
 import java.lang.reflect.Field;
@@ -82,7 +83,7 @@ public class Pagination extends Element implements IPagination {
 
     @Step("{elName} - Choose Next page")
     private void next(String elName) {
-        invoker.doJAction("Choose Next page", () -> nextAction().click());
+        invoker().doJAction("Choose Next page", () -> nextAction().click());
     }
 
     /**
@@ -94,7 +95,7 @@ public class Pagination extends Element implements IPagination {
 
     @Step("{elName} - Choose Previous page")
     private void previous(String elName) {
-        invoker.doJAction("Choose Previous page", () -> previousAction().click());
+        invoker().doJAction("Choose Previous page", () -> previousAction().click());
     }
 
     /**
@@ -106,7 +107,7 @@ public class Pagination extends Element implements IPagination {
 
     @Step("{elName} - Choose First page")
     private void first(String elName) {
-        invoker.doJAction("Choose First page", () -> firstAction().click());
+        invoker().doJAction("Choose First page", () -> firstAction().click());
     }
 
     /**
@@ -118,7 +119,7 @@ public class Pagination extends Element implements IPagination {
 
     @Step("{elName} - Choose Last page")
     private void last(String elName) {
-        invoker.doJAction("Choose Last page", () -> lastAction().click());
+        invoker().doJAction("Choose Last page", () -> lastAction().click());
     }
 
     /**
@@ -131,7 +132,7 @@ public class Pagination extends Element implements IPagination {
 
     @Step("{elName} - Choose {index} page")
     private void selectPage(String elName, int index) {
-        invoker.doJAction(format("Choose '%s' page", index), () -> pageAction(index).click());
+        invoker().doJAction(format("Choose '%s' page", index), () -> pageAction(index).click());
     }
 
     private Clickable getClickable(String name) {
@@ -215,6 +216,19 @@ public class Pagination extends Element implements IPagination {
         throw exception(cantChooseElementMsg(Integer.toString(index), shortName, "pageAction"));
     }
 
+    /**
+     * @return true if Next page can be chosen: next link is displayed and not disabled
+     */
+    public boolean hasNext() {
+        return avatar.findImmediately(() -> {
+            WebElement next = nextAction().getWebElement();
+            String cssClass = next.getAttribute("class");
+            return next.isDisplayed() && next.isEnabled()
+                && !"true".equals(next.getAttribute("aria-disabled"))
+                && (cssClass == null || !cssClass.contains("disabled"));
+        }, false);
+    }
+
     public boolean isNextPresent() {
         setWaitTimeout(0);
         boolean b = getDriver().findElements(nextLocator).size() > 0;
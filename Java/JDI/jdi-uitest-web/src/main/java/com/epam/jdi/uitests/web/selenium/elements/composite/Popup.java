@@ -35,13 +35,13 @@ public class Popup extends Text implements IPopup {
     }
 
     protected void okAction() {
-        getElementClass.getButton(OK_BUTTON).click();
+        getElementClass().getButton(OK_BUTTON).click();
     }
     protected void cancelAction() {
-        getElementClass.getButton(CANCEL_BUTTON).click();
+        getElementClass().getButton(CANCEL_BUTTON).click();
     }
     protected void closeAction() {
-        getElementClass.getButton(CLOSE_BUTTON).click();
+        getElementClass().getButton(CLOSE_BUTTON).click();
     }
     /**
      * Click on Button marked with annotation @OkButton or named "okButton"
@@ -52,7 +52,7 @@ public class Popup extends Text implements IPopup {
 
     @Step("{elName} - Press Ok on popup")
     private void ok(String elName) {
-        invoker.doJAction("Press Ok on popup", this::okAction);
+        invoker().doJAction("Press Ok on popup", this::okAction);
     }
 
     /**
@@ -64,7 +64,7 @@ public class Popup extends Text implements IPopup {
 
     @Step("{elName} - Press Cancel on popup")
     private void cancel(String elName) {
-        invoker.doJAction("Press Cancel on popup", this::cancelAction);
+        invoker().doJAction("Press Cancel on popup", this::cancelAction);
     }
 
     /**
@@ -76,7 +76,7 @@ public class Popup extends Text implements IPopup {
 
     @Step("{elName} - Close on popup")
     private void close(String elName) {
-        invoker.doJAction("Close on popup", this::closeAction);
+        invoker().doJAction("Close on popup", this::closeAction);
     }
 
 }
\ No newline at end of file
@@ -55,7 +55,7 @@ public class PopupForm<T> extends Form<T> implements IPopup {
 
     @Step("{elName} - Press Ok on popup")
     private void okCustom(String elName) {
-        getElementClass.getButton(OK_BUTTON).click();
+        getElementClass().getButton(OK_BUTTON).click();
     }
 
     /**
@@ -67,7 +67,7 @@ public class PopupForm<T> extends Form<T> implements IPopup {
 
     @Step("{elName} - Press Cancel on popup")
     private void cancelCustom(String elName) {
-        getElementClass.getButton(CANCEL_BUTTON).click();
+        getElementClass().getButton(CANCEL_BUTTON).click();
     }
 
     /**
@@ -79,7 +79,7 @@ public class PopupForm<T> extends Form<T> implements IPopup {
 
     @Step("{elName} - Close on popup")
     private void closeCustom(String elName) {
-        getElementClass.getButton(CLOSE_BUTTON).click();
+        getElementClass().getButton(CLOSE_BUTTON).click();
     }
 
     protected String getTextAction() {
@@ -95,7 +95,7 @@ public class PopupForm<T> extends Form<T> implements IPopup {
 
     @Step("{elName} - Get text")
     private String getText(String elName) {
-        return invoker.doJActionResult("Get text", this::getTextAction);
+        return invoker().doJActionResult("Get text", this::getTextAction);
     }
 
     /**
@@ -107,7 +107,7 @@ public class PopupForm<T> extends Form<T> implements IPopup {
     }
     @Step("{elName} - Wait text contains {text}")
     private String waitText(String elName, String text) {
-        return invoker.doJActionResult(format("Wait text contains '%s'", text),
+        return invoker().doJActionResult(format("Wait text contains '%s'", text),
                 () -> timer().getResultByCondition(this::getTextAction, t -> t.contains(text)));
     }
 
@@ -120,7 +120,7 @@ public class PopupForm<T> extends Form<T> implements IPopup {
     }
     @Step("{elName} - Wait text match regex {regEx}")
     private String waitMatchText(String elName, String regEx) {
-        return invoker.doJActionResult(format("Wait text match regex '%s'", regEx),
+        return invoker().doJActionResult(format("Wait text match regex '%s'", regEx),
                 () -> timer().getResultByCondition(this::getTextAction, t -> t.matches(regEx)));
     }
 }
\ No newline at end of file
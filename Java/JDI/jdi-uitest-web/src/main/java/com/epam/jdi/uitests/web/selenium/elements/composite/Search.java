@@ -98,7 +98,7 @@ public class Search extends TextField implements ISearch {
 
     @Step("{elName} - Search text {text}")
     private void find(String elName, String text) {
-        invoker.doJAction(format("Search text '%s'", text), () -> findAction(text));
+        invoker().doJAction(format("Search text '%s'", text), () -> findAction(text));
     }
 
     /**
@@ -112,7 +112,7 @@ public class Search extends TextField implements ISearch {
 
     @Step("{elName} - Search for text {text} and choose suggestion value={selectValue}")
     private void chooseSuggestion(String elName, String text, String selectValue) {
-        invoker.doJAction(format("Search for text '%s' and choose suggestion '%s'", text, selectValue),
+        invoker().doJAction(format("Search for text '%s' and choose suggestion '%s'", text, selectValue),
                 () -> chooseSuggestionAction(text, selectValue));
     }
 
@@ -127,7 +127,7 @@ public class Search extends TextField implements ISearch {
 
     @Step("{elName} - Search for text {text} and choose suggestion index={selectIndex}")
     private void chooseSuggestion(String elName, String text, int selectIndex) {
-        invoker.doJAction(format("Search for text '%s' and choose suggestion '%s'", text, selectIndex),
+        invoker().doJAction(format("Search for text '%s' and choose suggestion '%s'", text, selectIndex),
                 () -> chooseSuggestionAction(text, selectIndex));
     }
 
@@ -141,7 +141,7 @@ public class Search extends TextField implements ISearch {
 
     @Step("{elName} - Get all suggestions for input {text}")
     private List<String> getSuggesions(String elName, String text) {
-        return invoker.doJActionResult(format("Get all suggestions for input '%s'", text),
+        return invoker().doJActionResult(format("Get all suggestions for input '%s'", text),
                 () -> getSuggesionsAction(text));
     }
 
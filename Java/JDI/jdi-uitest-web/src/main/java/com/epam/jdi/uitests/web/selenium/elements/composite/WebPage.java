@@ -29,6 +29,7 @@ import io.qameta.allure.Step;
 import java.util.function.Supplier;
 
 import static com.epam.jdi.uitests.core.settings.JDISettings.*;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.PageNavigation.navigated;
 import static java.lang.String.format;
 
 /**
@@ -125,8 +126,9 @@ public class WebPage extends BaseElement implements IPage {
 
 	@Step("Open page {url}")
 	private <T extends IPage> T open(String url) {
-        invoker.doJAction(format("Open page '%s' by url %s", getName(), url),
+        invoker().doJAction(format("Open page '%s' by url %s", getName(), url),
                 () -> getDriver().navigate().to(url));
+        navigated(getAvatar().getDriverName());
         if (checkAfterOpen)
             checkOpened();
         currentPage = this;
@@ -155,16 +157,18 @@ public class WebPage extends BaseElement implements IPage {
      */
     @Step
     public void refresh() {
-        invoker.doJAction(format("Refresh page '%s", getName()),
+        invoker().doJAction(format("Refresh page '%s", getName()),
                 () -> getDriver().navigate().refresh());
+        navigated(getAvatar().getDriverName());
     }
     /**
      * Reload current page
      */
     @Step
     public void reload() {
-        invoker.doJAction(format("Reload page '%s", getName()),
+        invoker().doJAction(format("Reload page '%s", getName()),
                 () -> getDriver().navigate().refresh());
+        navigated(getAvatar().getDriverName());
     }
 
     /**
@@ -172,8 +176,9 @@ public class WebPage extends BaseElement implements IPage {
      */
     @Step
     public void back() {
-        invoker.doJAction("Go back to previous page",
+        invoker().doJAction("Go back to previous page",
                 () -> getDriver().navigate().back());
+        navigated(getAvatar().getDriverName());
     }
 
 
@@ -182,8 +187,9 @@ public class WebPage extends BaseElement implements IPage {
      */
     @Step
     public void forward() {
-        invoker.doJAction("Go forward to next page",
+        invoker().doJAction("Go forward to next page",
                 () -> getDriver().navigate().forward());
+        navigated(getAvatar().getDriverName());
     }
 
     /**
@@ -192,7 +198,7 @@ public class WebPage extends BaseElement implements IPage {
      */
     @Step
     public void addCookie(Cookie cookie) {
-        invoker.doJAction("Add cookie",
+        invoker().doJAction("Add cookie",
                 () -> getDriver().manage().addCookie(cookie));
     }
 
@@ -201,7 +207,7 @@ public class WebPage extends BaseElement implements IPage {
      */
     @Step
     public void clearCache() {
-        invoker.doJAction("Delete all cookies",
+        invoker().doJAction("Delete all cookies",
                 () -> getDriver().manage().deleteAllCookies());
     }
 
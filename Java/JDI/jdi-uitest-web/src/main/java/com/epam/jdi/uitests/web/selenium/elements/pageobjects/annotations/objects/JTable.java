@@ -61,6 +61,7 @@ public @interface JTable {
 
     TableHeaderTypes headerType() default COLUMNS_HEADERS;
     boolean useCache() default false;
+    boolean useSnapshot() default false;
 
 
 }
\ No newline at end of file
@@ -28,6 +28,8 @@ import com.epam.jdi.uitests.core.interfaces.complex.interfaces.ITable;
 import com.epam.jdi.uitests.core.logger.LogLevels;
 import com.epam.jdi.uitests.core.settings.JDISettings;
 import com.epam.jdi.uitests.web.selenium.TestNGCheck;
+import com.epam.jdi.uitests.web.selenium.driver.CommandAccounting;
+import com.epam.jdi.uitests.web.selenium.driver.DriverBinaryCache;
 import com.epam.jdi.uitests.web.selenium.driver.DriverTypes;
 import com.epam.jdi.uitests.web.selenium.driver.ScreenshotMaker;
 import com.epam.jdi.uitests.web.selenium.driver.SeleniumDriverFactory;
@@ -37,6 +39,7 @@ import com.epam.jdi.uitests.web.selenium.elements.base.J;
 import com.epam.jdi.uitests.web.selenium.elements.common.*;
 import com.epam.jdi.uitests.web.selenium.elements.complex.*;
 import com.epam.jdi.uitests.web.selenium.elements.complex.table.Table;
+import com.epam.jdi.uitests.web.testng.testRunner.ReporterSink;
 import com.epam.jdi.uitests.web.testng.testRunner.TestNGLogger;
 import com.epam.web.matcher.base.BaseMatcher;
 import org.openqa.selenium.Dimension;
@@ -48,13 +51,14 @@ import java.net.URL;
 import java.nio.file.Paths;
 import java.io.IOException;
 import java.util.List;
-import java.util.Objects;
 import java.util.function.Supplier;
 import java.io.File;
 import static com.epam.commons.PropertyReader.fillAction;
 import static com.epam.commons.PropertyReader.getProperties;
 import static com.epam.jdi.uitests.web.selenium.driver.SeleniumDriverFactory.*;
 import static com.epam.jdi.uitests.web.selenium.driver.WebDriverProvider.DRIVER_VERSION;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.ElementsFilter.ANY;
+import static com.epam.jdi.uitests.web.selenium.elements.apiInteract.ElementsFilter.DISPLAYED;
 import static com.epam.web.matcher.base.BaseMatcher.screenshotAction;
 import static com.epam.web.matcher.testng.Assert.setMatcher;
 import static java.lang.Integer.parseInt;
@@ -147,6 +151,9 @@ public class WebSettings extends JDISettings {
         fillAction(p -> domain = p, "domain");
         fillAction(p -> DRIVER_VERSION = p, "drivers.version");
         fillAction(driverFactory::setDriverPath, "drivers.folder");
+        fillAction(p -> DriverBinaryCache.cacheFolder = p, "drivers.cache.folder");
+        fillAction(p -> DriverBinaryCache.offline =
+                p.toLowerCase().equals("true") || p.toLowerCase().equals("1"), "drivers.offline");
         fillAction(p -> getDriverFactory().getLatestDriver =
                 p.toLowerCase().equals("true") || p.toLowerCase().equals("1"), "driver.getLatest");
         fillAction(p -> asserter.doScreenshot(p), "screenshot.strategy");
@@ -161,9 +168,9 @@ public class WebSettings extends JDISettings {
             if (p.split(",").length == 2) {
                 List<String> params = asList(p.split(","));
                 if (params.contains("visible") || params.contains("displayed"))
-                    elementSearchCriteria = WebElement::isDisplayed;
+                    elementSearchCriteria = DISPLAYED;
                 if (params.contains("any") || params.contains("all"))
-                    elementSearchCriteria = Objects::nonNull;
+                    elementSearchCriteria = ANY;
                 if (params.contains("single"))
                     onlyOneElementAllowedInSearch = true;
                 if (params.contains("multiple"))
@@ -180,6 +187,13 @@ public class WebSettings extends JDISettings {
                 browserSizes = new Dimension(parseInt(split[0].trim()), parseInt(split[1].trim()));
         }, "browser.size");
         fillAction(p -> getDriverFactory().pageLoadStrategy = p, "page.load.strategy");
+        fillAction(p -> CommandAccounting.enabled =
+                p.toLowerCase().equals("true") || p.toLowerCase().equals("1"), "statistic.commands");
+        fillAction(p -> CommandAccounting.topActions = parseInt(p.trim()), "statistic.commands.top");
+        fillAction(p -> ReporterSink.maxLinesPerTest = parseInt(p.trim()), "log.reporter.maxLines");
+        fillAction(p -> getDriverFactory().poolSize = parseInt(p.trim()), "drivers.pool.size");
+        fillAction(p -> getDriverFactory().releaseDriversAfterTest =
+                p.toLowerCase().equals("true") || p.toLowerCase().equals("1"), "drivers.pool.releaseAfterTest");
         initialized = true;
     }
 
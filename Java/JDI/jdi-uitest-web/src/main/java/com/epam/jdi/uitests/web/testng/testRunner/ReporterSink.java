@@ -0,0 +1,49 @@
+package com.epam.jdi.uitests.web.testng.testRunner;
+
+import com.epam.jdi.uitests.core.logger.LogLevels;
+import org.testng.Reporter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static com.epam.jdi.uitests.core.logger.LogLevels.DEBUG;
+import static com.epam.jdi.uitests.core.logger.LogLevels.TRACE;
+import static java.lang.String.format;
+import static org.slf4j.helpers.MessageFormatter.arrayFormat;
+
+/**
+ * Buffers log lines of current test method and writes them to TestNG Reporter in TestNGListener.afterInvocation<br>
+ * If maxLinesPerTest is set only last lines are kept for each test (they usually explain the failure)
+ */
+public final class ReporterSink {
+    private ReporterSink() { }
+
+    public static int maxLinesPerTest = 0;
+    private static final ThreadLocal<Deque<String>> lines = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<Integer> skipped = ThreadLocal.withInitial(() -> 0);
+
+    public static void add(LogLevels level, String record, Object[] args) {
+        String line = format("%s %s", level == TRACE || level == DEBUG ? 0 : 1,
+            args.length == 0 ? record : arrayFormat(record, args).getMessage());
+        if (Reporter.getCurrentTestResult() == null) {
+            Reporter.log(line);
+            return;
+        }
+        Deque<String> testLines = lines.get();
+        if (maxLinesPerTest > 0 && testLines.size() >= maxLinesPerTest) {
+            testLines.pollFirst();
+            skipped.set(skipped.get() + 1);
+        }
+        testLines.addLast(line);
+    }
+
+    public static void flush() {
+        Deque<String> testLines = lines.get();
+        if (skipped.get() > 0)
+            Reporter.log(format("1 ... %s earlier lines skipped (last %s lines per test are kept)",
+                skipped.get(), maxLinesPerTest));
+        testLines.forEach(Reporter::log);
+        testLines.clear();
+        skipped.set(0);
+    }
+}
@@ -18,21 +18,25 @@ package com.epam.jdi.uitests.web.testng.testRunner;
  */
 
 import com.epam.commons.Timer;
+import com.epam.jdi.uitests.core.reporting.PerformanceStatistic;
 import com.epam.jdi.uitests.web.selenium.driver.DriverTypes;
 import com.epam.jdi.uitests.web.settings.WebSettings;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeSuite;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 
 import static com.epam.commons.StringUtils.LINE_BREAK;
+import static com.epam.jdi.uitests.core.reporting.PerformanceStatistic.printStatistic;
 import static com.epam.jdi.uitests.core.settings.JDISettings.driverFactory;
 import static com.epam.jdi.uitests.core.settings.JDISettings.logger;
 import static com.epam.jdi.uitests.web.selenium.driver.WebDriverUtils.killAllRunWebBrowsers;
+import static com.epam.jdi.uitests.web.settings.WebSettings.getDriverFactory;
 import static com.epam.jdi.uitests.web.settings.WebSettings.initFromProperties;
 import static com.epam.jdi.uitests.web.settings.WebSettings.useDriver;
 
@@ -54,6 +58,7 @@ public class TestNGBase {
             killAllRunWebBrowsers();
         if (!driverFactory.hasDrivers())
             useDriver(DriverTypes.CHROME);
+        getDriverFactory().prewarmDrivers();
         timer = new Timer();
     }
 
@@ -65,8 +70,16 @@ public class TestNGBase {
         String formattedTime = DateTimeFormatter.ofPattern("HH:mm:ss.S").format(date);
 
         logger.info("Test run finished. " + LINE_BREAK + "Total test run time: " + formattedTime);
-
-        if (WebSettings.killBrowser.toLowerCase().contains("after"))
-            killAllRunWebBrowsers();
+        logger.info(printStatistic());
+        try {
+            for (Path file : PerformanceStatistic.export())
+                logger.info("Actions statistic saved to " + file.toAbsolutePath());
+        } catch (IOException ex) {
+            logger.error("Can't save actions statistic: " + ex.getMessage());
+        } finally {
+            getDriverFactory().closePool();
+            if (WebSettings.killBrowser.toLowerCase().contains("after"))
+                killAllRunWebBrowsers();
+        }
     }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package com.epam.jdi.uitests.web.testng.testRunner;
  */
 
 
+import com.epam.jdi.uitests.web.selenium.driver.CommandAccounting;
 import org.testng.IInvokedMethod;
 import org.testng.IInvokedMethodListener;
 import org.testng.ITestResult;
@@ -28,6 +29,7 @@ import java.util.List;
 
 import static com.epam.jdi.uitests.core.settings.JDIData.testName;
 import static com.epam.jdi.uitests.core.settings.JDISettings.logger;
+import static com.epam.jdi.uitests.web.settings.WebSettings.getDriverFactory;
 import static com.epam.web.matcher.verify.Verify.getFails;
 import static org.testng.ITestResult.FAILURE;
 
@@ -52,7 +54,11 @@ public class TestNGListener implements IInvokedMethodListener {
                 result.setStatus(FAILURE);
             }
             logger.info("=== Test '%s' %s ===", testName, getTestResult(result));
+            CommandAccounting.logTestActions(testName);
+            if (getDriverFactory().releaseDriversAfterTest)
+                getDriverFactory().releaseDrivers();
         }
+        ReporterSink.flush();
     }
 
     private String getTestResult(ITestResult result) {
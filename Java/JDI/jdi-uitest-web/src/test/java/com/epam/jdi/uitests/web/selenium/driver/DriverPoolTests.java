@@ -0,0 +1,122 @@
+package com.epam.jdi.uitests.web.selenium.driver;
+
+import com.epam.jdi.uitests.web.selenium.TestNGCheck;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static com.epam.jdi.uitests.core.settings.JDISettings.asserter;
+import static java.util.Collections.singleton;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class DriverPoolTests {
+    private final List<Object> started = new CopyOnWriteArrayList<>();
+    private final List<Object> quit = new CopyOnWriteArrayList<>();
+
+    @BeforeClass
+    public void setUp() {
+        if (asserter == null)
+            asserter = new TestNGCheck();
+    }
+
+    @BeforeMethod
+    public void clear() {
+        started.clear();
+        quit.clear();
+    }
+
+    private Object stub(Class<?> type, Object driver) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Object self = driver == null ? proxy : driver;
+            switch (method.getName()) {
+                case "quit": quit.add(self); return null;
+                case "getWindowHandles": return singleton("main");
+                case "equals": return self == args[0];
+                case "hashCode": return System.identityHashCode(self);
+                case "toString": return "driver stub";
+            }
+            Class<?> result = method.getReturnType();
+            if (result == WebDriver.class)
+                return self;
+            return result.isInterface() && result != Set.class && result != Object.class
+                ? stub(result, self)
+                : null;
+        });
+    }
+
+    private final Supplier<WebDriver> driver = () -> {
+        WebDriver result = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+            (proxy, method, args) -> {
+                Object delegate = stub(WebDriver.class, proxy);
+                return method.getName().equals("executeScript") ? null : method.invoke(delegate, args);
+            });
+        started.add(result);
+        return result;
+    };
+
+    @Test
+    public void returnedSessionIsReused() {
+        DriverPool pool = new DriverPool(2);
+        WebDriver first = pool.lease("stub", driver);
+        pool.giveBack("stub", first);
+        assertSame(pool.lease("stub", driver), first);
+        assertEquals(started.size(), 1);
+        assertTrue(quit.isEmpty());
+    }
+
+    @Test
+    public void leaseWaitsWhenAllSessionsAreBusy() throws InterruptedException {
+        DriverPool pool = new DriverPool(1);
+        WebDriver first = pool.lease("stub", driver);
+        AtomicReference<WebDriver> second = new AtomicReference<>();
+        CountDownLatch leased = new CountDownLatch(1);
+        new Thread(() -> {
+            second.set(pool.lease("stub", driver));
+            leased.countDown();
+        }).start();
+        assertFalse(leased.await(1, SECONDS));
+        pool.giveBack("stub", first);
+        assertTrue(leased.await(5, SECONDS));
+        assertSame(second.get(), first);
+        assertEquals(started.size(), 1);
+    }
+
+    @Test(expectedExceptions = {RuntimeException.class, AssertionError.class},
+        expectedExceptionsMessageRegExp = ".*all 1 sessions are busy")
+    public void leaseFailsAfterTimeout() {
+        DriverPool pool = new DriverPool(1);
+        pool.leaseTimeoutMSec = 100;
+        pool.lease("stub", driver);
+        pool.lease("stub", driver);
+    }
+
+    @Test
+    public void closeQuitsIdleAndLeasedSessions() {
+        DriverPool pool = new DriverPool(2);
+        WebDriver leased = pool.lease("stub", driver);
+        WebDriver idle = pool.lease("stub", driver);
+        pool.giveBack("stub", idle);
+        pool.close();
+        assertEquals(quit.size(), 2);
+        pool.giveBack("stub", leased);
+        assertEquals(quit.size(), 2);
+        WebDriver late = pool.lease("stub", driver);
+        pool.giveBack("stub", late);
+        assertEquals(quit.size(), 3);
+    }
+}
@@ -0,0 +1,62 @@
+package com.epam.jdi.uitests.web.selenium.driver;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class ParsedLocatorTests {
+    @Test
+    public void rootPrefixIsTrimmed() {
+        ParsedLocator locator = new ParsedLocator(By.xpath("*root*//div"));
+        assertTrue(locator.hasRoot());
+        assertEquals(locator.searchBy(), By.xpath(".//div"));
+        ParsedLocator css = new ParsedLocator(By.cssSelector("*root* .menu"));
+        assertTrue(css.hasRoot());
+        assertEquals(css.searchBy(), By.cssSelector(".menu"));
+    }
+
+    @Test
+    public void absoluteXPathIsMadeRelative() {
+        ParsedLocator locator = new ParsedLocator(By.xpath("//ul/li"));
+        assertFalse(locator.hasRoot());
+        assertEquals(locator.searchBy(), By.xpath(".//ul/li"));
+    }
+
+    @Test
+    public void unchangedLocatorIsReused() {
+        By css = By.cssSelector("//ul li");
+        assertSame(new ParsedLocator(css).searchBy(), css);
+        By xpath = By.xpath("./li");
+        assertSame(new ParsedLocator(xpath).searchBy(), xpath);
+        By id = By.id("login");
+        ParsedLocator locator = new ParsedLocator(id);
+        assertSame(locator.by(), id);
+        assertSame(locator.searchBy(), id);
+    }
+
+    @Test
+    public void customByIsKept() {
+        By custom = new By() {
+            @Override
+            public List<WebElement> findElements(SearchContext context) {
+                return emptyList();
+            }
+            @Override
+            public String toString() {
+                return "*root*//custom";
+            }
+        };
+        ParsedLocator locator = new ParsedLocator(custom);
+        assertFalse(locator.hasRoot());
+        assertSame(locator.searchBy(), custom);
+    }
+}
@@ -0,0 +1,60 @@
+package com.epam.jdi.uitests.web.selenium.elements;
+
+import com.epam.jdi.uitests.web.selenium.elements.common.Button;
+import com.epam.jdi.uitests.web.selenium.elements.common.Label;
+import com.epam.jdi.uitests.web.selenium.elements.common.TextField;
+import com.epam.jdi.uitests.web.selenium.elements.pageobjects.annotations.Frame;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.FindBy;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static com.epam.jdi.uitests.web.settings.WebSettings.getDriverFactory;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+
+public class WebCascadeInitTests {
+    @BeforeClass
+    public void setUp() {
+        getDriverFactory();
+    }
+
+    public static class TestPage {
+        @FindBy(id = "name")
+        public TextField name;
+        @Frame(id = "frame")
+        @FindBy(css = ".label")
+        public Label label;
+        @FindBy(xpath = "//button")
+        private Button submit;
+    }
+
+    private static TestPage init() {
+        return WebCascadeInit.initPageObject(TestPage.class, "stub");
+    }
+
+    @Test
+    public void everyInstanceGetsOwnElementsWithSameLocators() {
+        TestPage first = init();
+        TestPage second = init();
+        assertNotSame(second.name, first.name);
+        assertEquals(first.name.getLocator(), By.id("name"));
+        assertEquals(second.name.getLocator(), By.id("name"));
+        assertEquals(second.label.getLocator(), By.cssSelector(".label"));
+    }
+
+    @Test
+    public void frameIsSetOnlyForAnnotatedField() {
+        TestPage page = init();
+        assertEquals(page.label.getAvatar().frameLocator, By.id("frame"));
+        assertNull(page.name.getAvatar().frameLocator);
+    }
+
+    @Test
+    public void privateFieldIsSet() {
+        TestPage page = init();
+        assertEquals(page.submit.getLocator(), By.xpath("//button"));
+        assertEquals(page.submit.getVarName(), "submit");
+    }
+}
@@ -0,0 +1,75 @@
+package com.epam.jdi.uitests.web.selenium.elements.actions;
+
+import com.epam.commons.WaitStrategy;
+import com.epam.jdi.uitests.web.selenium.elements.actions.RetryPolicy.AttemptsStatistic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static com.epam.jdi.uitests.core.settings.JDISettings.timeouts;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class RetryPolicyTests {
+    private final RetryPolicy policy = new RetryPolicy(WaitStrategy.fixed(1));
+
+    @BeforeMethod
+    public void setUp() {
+        RetryPolicy.clearStatistic();
+        timeouts.setCurrentTimeoutSec(1);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        timeouts.dropTimeouts();
+    }
+
+    @Test
+    public void retriesTillResultIsNotNull() {
+        int[] calls = new int[1];
+        String result = policy.getResult("Get text", () -> ++calls[0] < 3 ? null : "done");
+        assertEquals(result, "done");
+        assertEquals(calls[0], 3);
+        assertEquals(RetryPolicy.lastAttempts(), 3);
+    }
+
+    @Test
+    public void returnsNullWhenTimeoutPassed() {
+        timeouts.setCurrentTimeoutSec(0);
+        assertNull(policy.getResult("Get text", () -> null));
+        assertTrue(RetryPolicy.lastAttempts() >= 1);
+    }
+
+    @Test
+    public void statisticIsCountedWithoutValues() {
+        policy.getResult("Input 'admin' in field [Login]", () -> true);
+        policy.getResult("Input 'secret' in field [Password]", () -> true);
+        policy.getResult("Select 12", () -> true);
+        Map<String, AttemptsStatistic> statistic = RetryPolicy.attemptsStatistic();
+        assertEquals(statistic.keySet().toString(), "[Input * in field *, Select *]");
+        AttemptsStatistic input = statistic.get("Input * in field *");
+        assertEquals(input.actions(), 2);
+        assertEquals(input.attempts(), 2);
+        assertEquals(input.maxAttempts(), 1);
+        assertEquals(input.averageAttempts(), 1.0);
+    }
+
+    @Test
+    public void remainingTimeoutWithoutDeadline() {
+        assertEquals(RetryPolicy.remainingMSec(5000), 5000);
+    }
+
+    @Test
+    public void nestedActionIsLimitedByTopLevelDeadline() {
+        long[] remaining = new long[1];
+        policy.getResult("Top", () -> {
+            remaining[0] = RetryPolicy.remainingMSec(60_000);
+            return policy.getResult("Nested", () -> true);
+        });
+        assertTrue(remaining[0] <= 1000, "Remaining timeout: " + remaining[0]);
+        assertEquals(RetryPolicy.remainingMSec(60_000), 60_000);
+    }
+}
@@ -0,0 +1,96 @@
+package com.epam.jdi.uitests.web.selenium.elements.complex.table;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static com.epam.jdi.uitests.web.settings.WebSettings.getDriverFactory;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class CellsCacheTests {
+    @BeforeClass
+    public void setUp() {
+        getDriverFactory();
+    }
+
+    private static Cell cell(int colNum, int rowNum) {
+        return new Cell(null, colNum, rowNum, "col" + colNum, "row" + rowNum, null, null);
+    }
+
+    @Test
+    public void cellIsFoundByPosition() {
+        CellsCache cache = new CellsCache();
+        Cell cell = cell(2, 3);
+        cache.add(cell);
+        assertSame(cache.get(2, 3), cell);
+        assertTrue(cache.contains(cell));
+    }
+
+    @Test
+    public void columnAndRowAreNotMixed() {
+        CellsCache cache = new CellsCache();
+        cache.add(cell(1, 2));
+        cache.add(cell(2, 1));
+        assertEquals(cache.size(), 2);
+        assertEquals(cache.get(1, 2).columnNum(), 1);
+        assertEquals(cache.get(2, 1).columnNum(), 2);
+        assertNull(cache.get(3, 0));
+    }
+
+    @Test
+    public void largeAndNegativeNumbersHaveOwnKeys() {
+        CellsCache cache = new CellsCache();
+        cache.add(cell(Integer.MAX_VALUE, 1));
+        cache.add(cell(1, Integer.MAX_VALUE));
+        cache.add(cell(0, -1));
+        cache.add(cell(-1, 0));
+        assertEquals(cache.size(), 4);
+        assertEquals(cache.get(Integer.MAX_VALUE, 1).rowNum(), 1);
+        assertEquals(cache.get(1, Integer.MAX_VALUE).rowNum(), Integer.MAX_VALUE);
+        assertEquals(cache.get(0, -1).columnNum(), 0);
+        assertEquals(cache.get(-1, 0).columnNum(), -1);
+    }
+
+    @Test
+    public void lastCellWithSamePositionIsFound() {
+        CellsCache cache = new CellsCache();
+        Cell oldCell = cell(1, 1);
+        Cell newCell = cell(1, 1);
+        cache.add(oldCell);
+        cache.add(newCell);
+        assertEquals(cache.size(), 2);
+        assertSame(cache.get(1, 1), newCell);
+        assertTrue(cache.contains(oldCell));
+        cache.remove(newCell);
+        assertSame(cache.get(1, 1), oldCell);
+    }
+
+    @Test
+    public void listViewKeepsIndex() {
+        CellsCache cache = new CellsCache();
+        Cell first = cell(1, 1);
+        Cell second = cell(2, 1);
+        cache.add(first);
+        cache.add(second);
+        assertSame(cache.get(0), first);
+        assertSame(cache.set(0, cell(3, 3)), first);
+        assertNull(cache.get(1, 1));
+        assertEquals(cache.get(3, 3).rowNum(), 3);
+        cache.remove(1);
+        assertNull(cache.get(2, 1));
+        assertFalse(cache.contains(second));
+    }
+
+    @Test
+    public void onlyCachedInstanceIsContained() {
+        CellsCache cache = new CellsCache();
+        cache.add(cell(1, 1));
+        assertFalse(cache.contains(cell(1, 1)));
+        assertFalse(cache.contains("cell"));
+        cache.clear();
+        assertEquals(cache.size(), 0);
+    }
+}
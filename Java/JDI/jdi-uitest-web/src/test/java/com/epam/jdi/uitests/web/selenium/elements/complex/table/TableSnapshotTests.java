@@ -0,0 +1,73 @@
+package com.epam.jdi.uitests.web.selenium.elements.complex.table;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static com.epam.jdi.uitests.core.interfaces.complex.interfaces.CheckPageTypes.CONTAINS;
+import static com.epam.jdi.uitests.core.interfaces.complex.interfaces.CheckPageTypes.EQUAL;
+import static com.epam.jdi.uitests.core.interfaces.complex.interfaces.CheckPageTypes.MATCH;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TableSnapshotTests {
+    private static TableSnapshot snapshot() {
+        return new TableSnapshot(asList("Name", "City"), asList("1", "2", "3", "4"), asList(
+            asList("Ann", "Oslo"),
+            asList("Bob", "Rome"),
+            asList("Ann", "Riga"),
+            asList("Eve")));
+    }
+
+    @Test
+    public void equalValueFindsAllRowsInOrder() {
+        assertEquals(snapshot().rowNums(1, EQUAL, "Ann"), asList(1, 3));
+        assertEquals(snapshot().rowNums(2, EQUAL, "Rome"), asList(2));
+        assertEquals(snapshot().rowNums(1, EQUAL, "Nobody"), emptyList());
+    }
+
+    @Test
+    public void containsAndMatchReturnSortedRows() {
+        assertEquals(snapshot().rowNums(2, CONTAINS, "R"), asList(2, 3));
+        assertEquals(snapshot().rowNums(1, MATCH, "A.*|E.*"), asList(1, 3, 4));
+        assertEquals(snapshot().rowNums(1, MATCH, "An"), emptyList());
+    }
+
+    @Test
+    public void missedCellsAreNotIndexed() {
+        assertEquals(snapshot().rowNums(2, CONTAINS, ""), asList(1, 2, 3));
+        assertNull(snapshot().value(2, 4));
+        assertEquals(snapshot().rowNums(3, CONTAINS, ""), emptyList());
+    }
+
+    @Test
+    public void foundRowsCanBeChangedByCaller() {
+        TableSnapshot snapshot = snapshot();
+        List<Integer> rows = snapshot.rowNums(1, EQUAL, "Ann");
+        rows.clear();
+        assertEquals(snapshot.rowNums(1, EQUAL, "Ann"), asList(1, 3));
+    }
+
+    @Test
+    public void headersAndValues() {
+        TableSnapshot snapshot = snapshot();
+        assertEquals(snapshot.columnNum("City"), 2);
+        assertEquals(snapshot.rowNum("5"), 0);
+        assertEquals(snapshot.rowValue(2), asList("Bob", "Rome"));
+        assertEquals(snapshot.columnValue(1), asList("Ann", "Bob", "Ann", "Eve"));
+        assertNull(snapshot.value(0, 1));
+        assertNull(snapshot.value(1, 5));
+    }
+
+    @Test
+    public void sameValues() {
+        assertTrue(snapshot().hasSameValues(snapshot()));
+        assertFalse(snapshot().hasSameValues(new TableSnapshot(asList("Name", "City"), asList("1"),
+            asList(asList("Ann", "Oslo")))));
+        assertFalse(snapshot().hasSameValues(null));
+    }
+}